@@ -0,0 +1,41 @@
+package com.example.bankService.config;
+
+import com.example.bankService.service.job.JobExecutorPoolSizing;
+import com.example.bankService.service.job.JobExecutorProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.camunda.bpm.spring.boot.starter.property.CamundaBpmProperties;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.Objects;
+
+//Replaces the pool Camunda sizes from camunda.bpm.job-execution.core-pool-size/queue-capacity
+//with one derived from the cores and bank.job-executor.pool, see JobExecutorPoolSizing
+@Slf4j
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnThreading(Threading.PLATFORM)
+public class JobExecutorConfiguration {
+
+    //Camunda's own default when max-jobs-per-acquisition is not set
+    private static final int DEFAULT_MAX_JOBS_PER_ACQUISITION = 3;
+
+    @Bean("camundaTaskExecutor")
+    public TaskExecutor camundaTaskExecutor(JobExecutorProperties properties, CamundaBpmProperties camundaBpmProperties) {
+        var sizing = JobExecutorPoolSizing.of(properties.getPool(), Runtime.getRuntime().availableProcessors(),
+                Objects.requireNonNullElse(camundaBpmProperties.getJobExecution().getMaxJobsPerAcquisition(),
+                        DEFAULT_MAX_JOBS_PER_ACQUISITION));
+
+        log.info(String.format("Job executor pool: %s threads, queue of %s jobs", sizing.getPoolSize(), sizing.getQueueCapacity()));
+
+        var executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(sizing.getPoolSize());
+        executor.setMaxPoolSize(sizing.getPoolSize());
+        executor.setQueueCapacity(sizing.getQueueCapacity());
+        executor.setThreadNamePrefix("camunda-job-");
+        return executor;
+    }
+}
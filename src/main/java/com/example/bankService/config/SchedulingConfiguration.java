@@ -0,0 +1,10 @@
+package com.example.bankService.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+//Runs the @Scheduled relays and reports, e.g. SignalOutboxRelay, on spring.task.scheduling.pool.size threads
+@Configuration(proxyBeanMethods = false)
+@EnableScheduling
+public class SchedulingConfiguration {
+}
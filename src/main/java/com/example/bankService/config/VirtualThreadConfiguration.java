@@ -0,0 +1,20 @@
+package com.example.bankService.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+
+//Active with spring.threads.virtual.enabled on Java 21. Spring Boot moves Tomcat onto virtual threads by itself,
+//this replaces the bounded pool Camunda builds for the job executor so delegates blocked on I/O do not hold a worker
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadConfiguration {
+
+    @Bean("camundaTaskExecutor")
+    public TaskExecutor camundaTaskExecutor() {
+        return new VirtualThreadTaskExecutor("camunda-job-");
+    }
+}
@@ -1,26 +1,46 @@
 package com.example.bankService.controller;
 
-import com.example.bankService.model.Client;
+import com.example.bankService.service.start.AsyncProcessStarter;
+import com.example.bankService.service.start.ProcessStartProperties;
+import com.example.bankService.service.start.ProcessStartService;
+import com.example.bankService.service.start.StartTicket;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
 import lombok.extern.slf4j.Slf4j;
 
 import org.apache.commons.lang3.StringUtils;
-import org.camunda.bpm.engine.ProcessEngines;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
-import java.util.HashMap;
-import java.util.Map;
-
-import static com.example.bankService.util.Constants.*;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.util.List;
 
 @RestController
 @Slf4j
 @RequestMapping("/bank")
+@RequiredArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
 public class BankController {
 
+    private static final MediaType NDJSON = MediaType.parseMediaType("application/x-ndjson");
+
+    ProcessStartService processStartService;
+    ProcessStartProperties processStartProperties;
+    AsyncProcessStarter asyncProcessStarter;
+    ObjectMapper objectMapper;
+
     @PostMapping("/start/{businessKey}")
     public ResponseEntity<String> startBankProcess(@PathVariable("businessKey") String businessKey) {
         log.info(String.format("Start banking process with business key id:  %S",businessKey ));
@@ -30,23 +50,60 @@ public class BankController {
                     .body("Business key can not be empty or null");
         }
 
-        ProcessEngines.getDefaultProcessEngine()
-                .getRuntimeService()
-                .createProcessInstanceByKey(MAIN_DEPOSIT_CREDIT_PROCESS)
-                .businessKey(businessKey)
-                .setVariables(prepareVariables(RIA))
-                .executeWithVariablesInReturn();
+        processStartService.start(businessKey);
 
         return ResponseEntity.ok()
                 .body(String.format("Banking process with business key: %s - has started", businessKey));
     }
 
-    private Map<String, Object> prepareVariables(Client client){
+    //Accepts a JSON array of business keys and streams one JSON line per key as soon as its chunk is committed
+    //Kept out of /start/, where it would hide a business key named batch
+    @PostMapping("/start-batch")
+    public ResponseEntity<StreamingResponseBody> startBankProcesses(@RequestBody List<String> businessKeys) {
+        log.info(String.format("Start %s banking processes in batch", businessKeys.size()));
+
+        var maxSize = processStartProperties.getBatch().getMaxSize();
+        if (businessKeys.size() > maxSize) {
+            return ResponseEntity.badRequest()
+                    .body(out -> out.write(String.format("At most %s business keys can be started at once", maxSize).getBytes()));
+        }
 
-        var variableMap = new HashMap<String, Object>();
-        variableMap.put("client", client);
+        StreamingResponseBody body = out -> processStartService.startBatch(businessKeys, result -> {
+            try {
+                out.write(objectMapper.writeValueAsBytes(result));
+                out.write('\n');
+                out.flush();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
 
-        return variableMap;
+        return ResponseEntity.ok()
+                .contentType(NDJSON)
+                .body(body);
     }
 
+    //Queues the start and answers 202 right away, poll the Location for the outcome
+    @PostMapping("/start/async/{businessKey}")
+    public ResponseEntity<?> startBankProcessAsync(@PathVariable("businessKey") String businessKey) {
+        log.info(String.format("Queue banking process start with business key id:  %S",businessKey ));
+
+        if (StringUtils.isBlank(businessKey)) {
+            return ResponseEntity.badRequest()
+                    .body("Business key can not be empty or null");
+        }
+
+        return asyncProcessStarter.submit(businessKey)
+                .<ResponseEntity<?>>map(ticket -> ResponseEntity.accepted()
+                        .location(URI.create("/bank/start/async/" + ticket.getTrackingId()))
+                        .body(ticket))
+                .orElseGet(() -> ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                        .header("Retry-After", "1")
+                        .body("Too many banking processes are waiting to start, try again later"));
+    }
+
+    @GetMapping("/start/async/{trackingId}")
+    public ResponseEntity<StartTicket> getAsyncStart(@PathVariable("trackingId") String trackingId) {
+        return ResponseEntity.of(asyncProcessStarter.find(trackingId));
+    }
 }
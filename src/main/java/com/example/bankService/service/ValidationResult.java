@@ -0,0 +1,53 @@
+package com.example.bankService.service;
+
+//Outcome of all validation rules packed in one bitset, the eight possible results are shared instances
+public final class ValidationResult {
+
+    public static final int WANTED_BY_POLICE = 1;
+    public static final int IN_BLACK_LIST = 1 << 1;
+    public static final int INVALID_PASSPORT = 1 << 2;
+
+    private static final ValidationResult[] RESULTS = new ValidationResult[8];
+
+    static {
+        for (int flags = 0; flags < RESULTS.length; flags++) {
+            RESULTS[flags] = new ValidationResult(flags);
+        }
+    }
+
+    private final int flags;
+
+    private ValidationResult(int flags) {
+        this.flags = flags;
+    }
+
+    public static ValidationResult of(int flags) {
+        return RESULTS[flags & 0b111];
+    }
+
+    public boolean isCriminal() {
+        return (flags & WANTED_BY_POLICE) != 0;
+    }
+
+    public boolean isInBlackList() {
+        return (flags & IN_BLACK_LIST) != 0;
+    }
+
+    public boolean isValidPassport() {
+        return (flags & INVALID_PASSPORT) == 0;
+    }
+
+    public boolean isValidUser() {
+        return flags == 0;
+    }
+
+    public int flags() {
+        return flags;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("ValidationResult(criminal=%s, inBlackList=%s, validPassport=%s)",
+                isCriminal(), isInBlackList(), isValidPassport());
+    }
+}
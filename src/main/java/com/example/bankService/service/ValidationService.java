@@ -6,5 +6,11 @@ public interface ValidationService {
     boolean isClientWantedByPolice (Client client);
     boolean isClientInBlackList(Client  client);
     boolean isValidPassport(Client client);
+
+    //evaluates all the rules above in one pass
+    ValidationResult validateAll(Client client);
+
+    //only the watchlist rules of validateAll, for checks that do not look at the passport
+    ValidationResult validateListed(Client client);
     
 }
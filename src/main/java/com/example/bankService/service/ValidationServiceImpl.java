@@ -1,42 +1,76 @@
 package com.example.bankService.service;
 
 import com.example.bankService.model.Client;
+import com.example.bankService.service.screening.ScreeningIndexRegistry;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDate;
 
-import static com.example.bankService.util.Constants.BANK_BLACK_LIST;
-import static com.example.bankService.util.Constants.POLICE_WANTED_LIST;
+import static com.example.bankService.service.screening.Watchlist.BANK_BLACK_LIST;
+import static com.example.bankService.service.screening.Watchlist.POLICE_WANTED;
 
 @Slf4j
 @Service
+@RequiredArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
 public class ValidationServiceImpl implements ValidationService{
+
+    private static final int POLICE_WANTED_BIT = 1 << POLICE_WANTED.ordinal();
+    private static final int BANK_BLACK_LIST_BIT = 1 << BANK_BLACK_LIST.ordinal();
+
+    ScreeningIndexRegistry screeningIndexRegistry;
+
     @Override
     public boolean isClientWantedByPolice(Client client) {
-        return POLICE_WANTED_LIST.stream()
-                .anyMatch(info -> matchesClientInfo(info, client));
+        return screeningIndexRegistry.isListed(POLICE_WANTED, client);
 
     }
 
     @Override
     public boolean isClientInBlackList(Client client) {
-        return BANK_BLACK_LIST.stream()
-                .anyMatch(info -> matchesClientInfo(info, client));
+        return screeningIndexRegistry.isListed(BANK_BLACK_LIST, client);
     }
 
     @Override
     public boolean isValidPassport(Client client) {
-        var passport =  client.getPassport();
-        return passport.getValidFrom().isBefore(LocalDate.now())
-                && passport.getValidTo().isAfter(LocalDate.now());
+        return isValidPassport(client, LocalDate.now());
+    }
+
+    @Override
+    public ValidationResult validateAll(Client client) {
+        var flags = listedFlags(client);
+        if (!isValidPassport(client, LocalDate.now())) {
+            flags |= ValidationResult.INVALID_PASSPORT;
+        }
+        return ValidationResult.of(flags);
     }
 
-    private boolean matchesClientInfo(Client info, Client client){
-        return info.getName().equals(client.getName())
-                && info.getSurname().equals(client.getSurname())
-                && info.getBirthDate().equals(client.getBirthDate())
-                && info.getPassport().getIdenticalNumber().equals(client.getPassport().getIdenticalNumber());
+    @Override
+    public ValidationResult validateListed(Client client) {
+        return ValidationResult.of(listedFlags(client));
+    }
+
+    private int listedFlags(Client client) {
+        var listedMask = screeningIndexRegistry.listedMask(client);
+        var flags = 0;
+
+        if ((listedMask & POLICE_WANTED_BIT) != 0) {
+            flags |= ValidationResult.WANTED_BY_POLICE;
+        }
+        if ((listedMask & BANK_BLACK_LIST_BIT) != 0) {
+            flags |= ValidationResult.IN_BLACK_LIST;
+        }
+        return flags;
+    }
+
+    private boolean isValidPassport(Client client, LocalDate today) {
+        var passport =  client.getPassport();
+        return passport.getValidFrom().isBefore(today)
+                && passport.getValidTo().isAfter(today);
     }
 
 
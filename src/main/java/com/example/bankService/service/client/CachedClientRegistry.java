@@ -0,0 +1,57 @@
+package com.example.bankService.service.client;
+
+import com.example.bankService.model.Passport;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import static com.example.bankService.util.Constants.BANK_ALREADY_CLIENTS_INFO;
+
+//Read-through cache in front of the BANK_CLIENT table: a check is either one cache hit or one indexed probe
+@Slf4j
+@Service
+public class CachedClientRegistry implements ClientRegistry {
+
+    private final ClientRegistryRepository repository;
+    private final LoadingCache<ClientIdentity, Boolean> cache;
+
+    public CachedClientRegistry(ClientRegistryRepository repository, ClientRegistryProperties properties) {
+        this.repository = repository;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.getCache().getMaximumSize())
+                .expireAfterWrite(properties.getCache().getTtl())
+                .recordStats()
+                .build(repository::exists);
+    }
+
+    //todo remove once the bank clients are loaded into the table by the core banking import
+    @PostConstruct
+    public void registerKnownClients() {
+        BANK_ALREADY_CLIENTS_INFO.forEach(this::register);
+    }
+
+    @Override
+    public boolean isExistingClient(Passport passport) {
+        var identity = ClientIdentity.of(passport);
+        return identity.isComplete() && cache.get(identity);
+    }
+
+    @Override
+    public void register(Passport passport) {
+        var identity = ClientIdentity.of(passport);
+        if (!identity.isComplete()) {
+            log.warn(String.format("The client with passport: %s has no birth date and is not registered", identity.getPassportNumber()));
+            return;
+        }
+        if (repository.insert(identity)) {
+            log.info(String.format("The client with passport: %s has been registered", identity.getPassportNumber()));
+        }
+        cache.put(identity, true);
+    }
+
+    LoadingCache<ClientIdentity, Boolean> cache() {
+        return cache;
+    }
+}
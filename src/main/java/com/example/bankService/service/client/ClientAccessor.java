@@ -0,0 +1,77 @@
+package com.example.bankService.service.client;
+
+import com.example.bankService.model.Client;
+import com.example.bankService.service.serialization.ModelVariables;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import org.camunda.bpm.engine.delegate.DelegateExecution;
+import org.camunda.bpm.engine.impl.context.Context;
+import org.camunda.bpm.engine.impl.interceptor.CommandContext;
+import org.camunda.bpm.engine.impl.interceptor.CommandContextListener;
+import org.camunda.bpm.engine.variable.value.TypedValue;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+//Typed access to the client variable for delegates. Views are cached per command context and process instance,
+//so all delegates running in one transaction share a single decode
+@Component
+@RequiredArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class ClientAccessor {
+
+    public static final String CLIENT = "client";
+
+    ObjectMapper objectMapper;
+    ModelVariables modelVariables;
+    Map<CommandContext, Map<String, ClientView>> views = new ConcurrentHashMap<>();
+
+    public ClientView of(DelegateExecution execution) {
+        var commandContext = Context.getCommandContext();
+        if (commandContext == null) {
+            return new ClientView(execution, objectMapper);
+        }
+
+        return viewsOf(commandContext)
+                .computeIfAbsent(execution.getProcessInstanceId(), id -> new ClientView(execution, objectMapper));
+    }
+
+    //The stored value as it is, for handing the client over to another process without decoding it
+    public TypedValue serialized(DelegateExecution execution) {
+        return execution.getVariableTyped(CLIENT, false);
+    }
+
+    public void save(DelegateExecution execution, Client client) {
+        execution.setVariable(CLIENT, modelVariables.typed(CLIENT, client));
+
+        var commandContext = Context.getCommandContext();
+        if (commandContext != null) {
+            viewsOf(commandContext).put(execution.getProcessInstanceId(), new ClientView(client, objectMapper));
+        }
+    }
+
+    int cachedContexts() {
+        return views.size();
+    }
+
+    private Map<String, ClientView> viewsOf(CommandContext commandContext) {
+        return views.computeIfAbsent(commandContext, context -> {
+            context.registerCommandContextListener(new CommandContextListener() {
+                @Override
+                public void onCommandContextClose(CommandContext closed) {
+                    views.remove(closed);
+                }
+
+                @Override
+                public void onCommandFailed(CommandContext failed, Throwable throwable) {
+                    views.remove(failed);
+                }
+            });
+            return new HashMap<>();
+        });
+    }
+}
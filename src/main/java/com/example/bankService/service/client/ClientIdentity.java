@@ -0,0 +1,34 @@
+package com.example.bankService.service.client;
+
+import com.example.bankService.model.Passport;
+import lombok.Value;
+
+import java.time.LocalDate;
+import java.util.Locale;
+
+//Passport identity fields as they are stored in the BANK_CLIENT table (trimmed, upper case)
+@Value
+public class ClientIdentity {
+
+    String passportNumber;
+    String name;
+    String surname;
+    LocalDate birthDate;
+
+    public static ClientIdentity of(Passport passport) {
+        return new ClientIdentity(
+                normalize(passport.getIdenticalNumber()),
+                normalize(passport.getName()),
+                normalize(passport.getSurname()),
+                passport.getBirthDate());
+    }
+
+    //BIRTH_DATE is part of the unique identity and NOT NULL, an identity without it is never registered
+    public boolean isComplete() {
+        return birthDate != null;
+    }
+
+    private static String normalize(String value) {
+        return value == null ? "" : value.trim().toUpperCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,8 @@
+package com.example.bankService.service.client;
+
+import com.example.bankService.model.Passport;
+
+public interface ClientRegistry {
+    boolean isExistingClient(Passport passport);
+    void register(Passport passport);
+}
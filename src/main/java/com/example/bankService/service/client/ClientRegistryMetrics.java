@@ -0,0 +1,31 @@
+package com.example.bankService.service.client;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class ClientRegistryMetrics implements MeterBinder {
+
+    CachedClientRegistry clientRegistry;
+
+    @Override
+    public void bindTo(MeterRegistry meterRegistry) {
+        var cache = clientRegistry.cache();
+
+        //cache.gets{result=hit|miss}, cache.evictions, cache.size ... tagged cache=bank.client-registry
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "bank.client-registry");
+
+        Gauge.builder("bank.client.registry.cache.hit.ratio", cache, c -> c.stats().hitRate())
+                .register(meterRegistry);
+        Gauge.builder("bank.client.registry.cache.miss.ratio", cache, c -> c.stats().missRate())
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.bankService.service.client;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "bank.client-registry")
+public class ClientRegistryProperties {
+
+    Cache cache = new Cache();
+
+    @Data
+    public static class Cache {
+        long maximumSize = 10_000;
+        Duration ttl = Duration.ofMinutes(10);
+    }
+}
@@ -0,0 +1,44 @@
+package com.example.bankService.service.client;
+
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import org.springframework.boot.sql.init.dependency.DependsOnDatabaseInitialization;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+
+//BANK_CLIENT table, see db/bank-schema.sql. Lookups go through the unique passport identity index.
+@Repository
+@DependsOnDatabaseInitialization
+@RequiredArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class ClientRegistryRepository {
+
+    private static final String EXISTS_SQL = "SELECT COUNT(*) FROM BANK_CLIENT "
+            + "WHERE PASSPORT_NUMBER = ? AND NAME = ? AND SURNAME = ? AND BIRTH_DATE = ?";
+
+    private static final String INSERT_SQL = "INSERT INTO BANK_CLIENT (PASSPORT_NUMBER, NAME, SURNAME, BIRTH_DATE) "
+            + "VALUES (?, ?, ?, ?)";
+
+    JdbcTemplate jdbcTemplate;
+
+    public boolean exists(ClientIdentity identity) {
+        var count = jdbcTemplate.queryForObject(EXISTS_SQL, Integer.class,
+                identity.getPassportNumber(), identity.getName(), identity.getSurname(), Date.valueOf(identity.getBirthDate()));
+        return count != null && count > 0;
+    }
+
+    //returns false when the client is already registered
+    public boolean insert(ClientIdentity identity) {
+        try {
+            jdbcTemplate.update(INSERT_SQL,
+                    identity.getPassportNumber(), identity.getName(), identity.getSurname(), Date.valueOf(identity.getBirthDate()));
+            return true;
+        } catch (DuplicateKeyException e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package com.example.bankService.service.client;
+
+import com.example.bankService.model.Client;
+import com.example.bankService.model.Passport;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.camunda.bpm.engine.delegate.VariableScope;
+import org.camunda.bpm.engine.variable.value.ObjectValue;
+import org.camunda.bpm.engine.variable.value.TypedValue;
+
+import java.math.BigDecimal;
+
+import static com.example.bankService.service.client.ClientAccessor.CLIENT;
+import static org.camunda.bpm.engine.variable.Variables.SerializationDataFormats.JSON;
+
+//Read view of the client variable. Nothing is loaded until the first getter, a JSON value is parsed into a tree
+//and only the requested fields are bound, the whole Client is bound only when getClient() is called
+public final class ClientView {
+
+    private final ObjectMapper objectMapper;
+    private VariableScope source;
+    private boolean loaded;
+    private Client client;
+    private JsonNode tree;
+
+    ClientView(VariableScope source, ObjectMapper objectMapper) {
+        this.source = source;
+        this.objectMapper = objectMapper;
+    }
+
+    ClientView(Client client, ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+        this.client = client;
+        this.loaded = true;
+    }
+
+    public boolean isPresent() {
+        load();
+        return client != null || tree != null;
+    }
+
+    public String getName() {
+        return client() != null ? client.getName() : text(tree.get("name"));
+    }
+
+    public String getSurname() {
+        return client() != null ? client.getSurname() : text(tree.get("surname"));
+    }
+
+    public String getPhoneNumber() {
+        return client() != null ? client.getPhoneNumber() : text(tree.get("phoneNumber"));
+    }
+
+    public BigDecimal getMoneyCount() {
+        if (client() != null) {
+            return client.getWallet() == null ? null : client.getWallet().getMoneyCount();
+        }
+        var moneyCount = tree.path("wallet").get("moneyCount");
+        return moneyCount == null || moneyCount.isNull() ? null : moneyCount.decimalValue();
+    }
+
+    public Passport getPassport() {
+        return client() != null ? client.getPassport() : bind(tree.get("passport"), Passport.class);
+    }
+
+    public Client getClient() {
+        if (client() == null) {
+            client = bind(tree, Client.class);
+            tree = null;
+        }
+        return client;
+    }
+
+    private Client client() {
+        if (!isPresent()) {
+            throw new IllegalStateException(String.format("The %s variable is not set", CLIENT));
+        }
+        return client;
+    }
+
+    private void load() {
+        if (loaded) {
+            return;
+        }
+        loaded = true;
+
+        TypedValue value = source.getVariableTyped(CLIENT, false);
+
+        if (value instanceof ObjectValue objectValue && !objectValue.isDeserialized()) {
+            if (JSON.getName().equals(objectValue.getSerializationDataFormat())) {
+                var node = readTree(objectValue.getValueSerialized());
+                tree = node.isNull() ? null : node;
+            } else {
+                //binary and java values are cheap to decode as a whole
+                client = (Client) source.getVariable(CLIENT);
+            }
+        } else {
+            client = value == null ? null : (Client) value.getValue();
+        }
+        source = null;
+    }
+
+    private JsonNode readTree(String json) {
+        try {
+            return objectMapper.readTree(json);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(String.format("The %s variable is not valid JSON", CLIENT), e);
+        }
+    }
+
+    private <T> T bind(JsonNode node, Class<T> type) {
+        if (node == null || node.isNull()) {
+            return null;
+        }
+        try {
+            return objectMapper.treeToValue(node, type);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(String.format("Can not read %s from the %s variable", type.getSimpleName(), CLIENT), e);
+        }
+    }
+
+    private static String text(JsonNode node) {
+        return node == null || node.isNull() ? null : node.asText();
+    }
+}
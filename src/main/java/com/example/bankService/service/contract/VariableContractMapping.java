@@ -0,0 +1,115 @@
+package com.example.bankService.service.contract;
+
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import org.camunda.bpm.engine.delegate.DelegateExecution;
+import org.camunda.bpm.engine.delegate.DelegateVariableMapping;
+import org.camunda.bpm.engine.delegate.VariableScope;
+import org.camunda.bpm.engine.variable.VariableMap;
+import org.camunda.bpm.engine.variable.value.BytesValue;
+import org.camunda.bpm.engine.variable.value.SerializableValue;
+import org.camunda.bpm.engine.variable.value.StringValue;
+import org.camunda.bpm.engine.variable.value.TypedValue;
+import org.camunda.bpm.model.bpmn.instance.CallActivity;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+//Variable mapping of call activities (camunda:variableMappingDelegateExpression="${variableContractMapping}"):
+//only the variables in the contract of the called process are copied, in their serialized form, so a JSON or
+//binary client is handed over without being decoded and encoded again. On the way back a variable is only
+//written to the caller when the called process changed it, an unchanged blob is not written a second time.
+@Component("variableContractMapping")
+@RequiredArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class VariableContractMapping implements DelegateVariableMapping {
+
+    private static final long PRIMITIVE_SIZE = 8;
+
+    VariableContractProperties properties;
+    VariableCopyReport report;
+
+    @Override
+    public void mapInputVariables(DelegateExecution superExecution, VariableMap subVariables) {
+        var contract = properties.getContracts().get(calledElement(superExecution));
+        var names = contract == null ? superExecution.getVariableNames() : contract.getIn();
+
+        long copied = 0;
+        for (var name : names) {
+            var value = superExecution.getVariableTyped(name, false);
+            if (value != null) {
+                subVariables.putValueTyped(name, value);
+                copied += sizeOf(value);
+            }
+        }
+        report.recordIn(superExecution.getCurrentActivityId(), copied, sizeOfAll(contract, copied, superExecution));
+    }
+
+    @Override
+    public void mapOutputVariables(DelegateExecution superExecution, VariableScope subInstance) {
+        var contract = properties.getContracts().get(calledElement(superExecution));
+        var names = contract == null ? subInstance.getVariableNames() : contract.getOut();
+
+        long copied = 0;
+        for (var name : names) {
+            var value = subInstance.getVariableTyped(name, false);
+            if (value != null && !sameValue(value, superExecution.getVariableTyped(name, false))) {
+                superExecution.setVariable(name, value);
+                copied += sizeOf(value);
+            }
+        }
+        report.recordOut(superExecution.getCurrentActivityId(), copied, sizeOfAll(contract, copied, subInstance));
+    }
+
+    private static String calledElement(DelegateExecution superExecution) {
+        return ((CallActivity) superExecution.getBpmnModelElementInstance()).getCalledElement();
+    }
+
+    //What variables="all" would have copied, the before figure of the report. Measuring it loads every variable of
+    //the scope, blobs included, so it is only done when bank.variable-contract.report-all is switched on
+    private long sizeOfAll(VariableContractProperties.Contract contract, long copied, VariableScope scope) {
+        if (contract == null) {
+            return copied;
+        }
+        if (!properties.isReportAll()) {
+            return 0;
+        }
+        long size = 0;
+        for (var name : scope.getVariableNames()) {
+            var value = scope.getVariableTyped(name, false);
+            size += value == null ? 0 : sizeOf(value);
+        }
+        return size;
+    }
+
+    //Characters of the serialized form, what is written to ACT_GE_BYTEARRAY or the variable row
+    static long sizeOf(TypedValue value) {
+        if (value instanceof SerializableValue serializable && serializable.getValueSerialized() != null) {
+            return serializable.getValueSerialized().length();
+        }
+        if (value instanceof BytesValue bytes && bytes.getValue() != null) {
+            return bytes.getValue().length;
+        }
+        if (value instanceof StringValue string && string.getValue() != null) {
+            return string.getValue().length();
+        }
+        return PRIMITIVE_SIZE;
+    }
+
+    static boolean sameValue(TypedValue value, TypedValue current) {
+        if (current == null || !Objects.equals(value.getType(), current.getType())) {
+            return false;
+        }
+        if (value instanceof SerializableValue serializable && current instanceof SerializableValue currentSerializable
+                && serializable.getValueSerialized() != null) {
+            return Objects.equals(serializable.getSerializationDataFormat(), currentSerializable.getSerializationDataFormat())
+                    && serializable.getValueSerialized().equals(currentSerializable.getValueSerialized());
+        }
+        if (value instanceof BytesValue bytes && current instanceof BytesValue currentBytes) {
+            return Arrays.equals(bytes.getValue(), currentBytes.getValue());
+        }
+        return Objects.equals(value.getValue(), current.getValue());
+    }
+}
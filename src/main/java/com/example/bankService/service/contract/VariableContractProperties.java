@@ -0,0 +1,28 @@
+package com.example.bankService.service.contract;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Data
+@ConfigurationProperties(prefix = "bank.variable-contract")
+public class VariableContractProperties {
+
+    //Variables a called process receives from and hands back to its caller, per called process definition key.
+    //A called process without a contract gets and returns all variables, like camunda:in/out variables="all"
+    Map<String, Contract> contracts = new HashMap<>();
+
+    //Diagnosing only: also reports what variables="all" would have copied (mapping=all), which loads every variable
+    //of the caller on the way in and of the called instance on the way out
+    boolean reportAll = false;
+
+    @Data
+    public static class Contract {
+        List<String> in = new ArrayList<>();
+        List<String> out = new ArrayList<>();
+    }
+}
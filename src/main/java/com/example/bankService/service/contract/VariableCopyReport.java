@@ -0,0 +1,96 @@
+package com.example.bankService.service.contract;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.ToDoubleFunction;
+
+//Bytes copied per call activity and direction: bank.variable.copy.bytes{activity, direction, mapping=contract},
+//with bank.variable-contract.report-all also what variables="all" would have copied for the same instances
+//(mapping=all). Call activities are only known once they run, their counters are registered on their first copy
+@Component
+public class VariableCopyReport implements MeterBinder {
+
+    private final Map<String, Copies> copies = new ConcurrentHashMap<>();
+    private final VariableContractProperties properties;
+    private volatile MeterRegistry meterRegistry;
+
+    public VariableCopyReport(VariableContractProperties properties) {
+        this.properties = properties;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        copies.forEach(this::register);
+    }
+
+    void recordIn(String activityId, long copied, long all) {
+        var activity = copiesOf(activityId);
+        activity.in.add(copied);
+        activity.allIn.add(all);
+    }
+
+    void recordOut(String activityId, long copied, long all) {
+        var activity = copiesOf(activityId);
+        activity.out.add(copied);
+        activity.allOut.add(all);
+    }
+
+    long copied(String activityId) {
+        var activity = copies.get(activityId);
+        return activity == null ? 0 : activity.in.sum() + activity.out.sum();
+    }
+
+    long all(String activityId) {
+        var activity = copies.get(activityId);
+        return activity == null ? 0 : activity.allIn.sum() + activity.allOut.sum();
+    }
+
+    private Copies copiesOf(String activityId) {
+        var activity = copies.get(activityId);
+        if (activity != null) {
+            return activity;
+        }
+        return copies.computeIfAbsent(activityId, id -> {
+            var created = new Copies();
+            register(id, created);
+            return created;
+        });
+    }
+
+    private void register(String activityId, Copies activity) {
+        var registry = meterRegistry;
+        if (registry == null) {
+            return;
+        }
+        counter(registry, activityId, "in", "contract", activity, a -> a.in.sum());
+        counter(registry, activityId, "out", "contract", activity, a -> a.out.sum());
+        if (properties.isReportAll()) {
+            counter(registry, activityId, "in", "all", activity, a -> a.allIn.sum());
+            counter(registry, activityId, "out", "all", activity, a -> a.allOut.sum());
+        }
+    }
+
+    private static void counter(MeterRegistry registry, String activityId, String direction, String mapping,
+                                Copies activity, ToDoubleFunction<Copies> bytes) {
+        FunctionCounter.builder("bank.variable.copy.bytes", activity, bytes)
+                .tag("activity", activityId)
+                .tag("direction", direction)
+                .tag("mapping", mapping)
+                .baseUnit("bytes")
+                .register(registry);
+    }
+
+    private static class Copies {
+        final LongAdder in = new LongAdder();
+        final LongAdder allIn = new LongAdder();
+        final LongAdder out = new LongAdder();
+        final LongAdder allOut = new LongAdder();
+    }
+}
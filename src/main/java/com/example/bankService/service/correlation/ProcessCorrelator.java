@@ -0,0 +1,57 @@
+package com.example.bankService.service.correlation;
+
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import org.camunda.bpm.engine.RuntimeService;
+import org.camunda.bpm.engine.delegate.DelegateExecution;
+import org.camunda.bpm.engine.runtime.MessageCorrelationResult;
+import org.camunda.bpm.engine.variable.VariableMap;
+import org.camunda.bpm.engine.variable.Variables;
+import org.springframework.stereotype.Service;
+
+//Message round trips between a waiting process and the process it starts (DepositOpening -> SmsVerification).
+//The started process gets the id of the waiting one, so the reply is correlated by process instance id instead of
+//searching executions by business key, which is slower and ambiguous when several instances share the key.
+//Replies without that id, from instances started before it was handed over, fall back to the business key.
+@Service
+@RequiredArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class ProcessCorrelator {
+
+    public static final String REPLY_TO = "replyToProcessInstanceId";
+
+    RuntimeService runtimeService;
+
+    //Starts the process with the message start event only, without looking for a waiting execution first
+    public MessageCorrelationResult startByMessage(String messageName, DelegateExecution caller, VariableMap variables) {
+        var correlation = runtimeService.createMessageCorrelation(messageName)
+                .setVariables(Variables.fromMap(variables).putValue(REPLY_TO, caller.getProcessInstanceId()));
+
+        //the started process inherits the business key, a caller started without one hands none over
+        var businessKey = caller.getProcessBusinessKey();
+        if (businessKey != null) {
+            correlation.processInstanceBusinessKey(businessKey);
+        }
+        return correlation.startMessageOnly().correlateWithResult();
+    }
+
+    public MessageCorrelationResult reply(String messageName, DelegateExecution execution) {
+        return correlate(messageName, execution.getProcessBusinessKey(), (String) execution.getVariable(REPLY_TO));
+    }
+
+    public MessageCorrelationResult correlate(String messageName, String businessKey, String processInstanceId) {
+        if (processInstanceId != null) {
+            return correlateToInstance(messageName, processInstanceId);
+        }
+        return runtimeService.createMessageCorrelation(messageName)
+                .processInstanceBusinessKey(businessKey)
+                .correlateWithResult();
+    }
+
+    private MessageCorrelationResult correlateToInstance(String messageName, String processInstanceId) {
+        return runtimeService.createMessageCorrelation(messageName)
+                .processInstanceId(processInstanceId)
+                .correlateWithResult();
+    }
+}
@@ -0,0 +1,72 @@
+package com.example.bankService.service.decision;
+
+import com.example.bankService.model.Client;
+import com.example.bankService.model.Wallet;
+import lombok.extern.slf4j.Slf4j;
+import org.camunda.bpm.dmn.engine.DmnDecision;
+import org.camunda.bpm.dmn.engine.DmnEngine;
+import org.camunda.bpm.dmn.engine.DmnEngineConfiguration;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+import static com.example.bankService.service.client.ClientAccessor.CLIENT;
+
+//Evaluates the decision tables of the bank without going through a business rule task. The decision requirements
+//graph is parsed once at startup, so an evaluation only runs the parsed table. The outcomes are not remembered per
+//input: the inputs are amounts of money, nearly every one is new, and a map keyed by them only fills up.
+@Slf4j
+@Service
+public class DecisionEvaluationService {
+
+    public static final String CHOOSE_TRANSPORT_RESOURCE = "dmn/choose-transport-to-home-dmn.dmn";
+    public static final String CHOOSE_TRANSPORT_DECISION = "choose-transport-to-home-dmn";
+
+    private static final String TRANSPORT = "transport";
+
+    private final DmnEngine dmnEngine;
+    private final DmnDecision chooseTransport;
+
+    private final LongAdder evaluations = new LongAdder();
+
+    public DecisionEvaluationService() {
+        this.dmnEngine = DmnEngineConfiguration.createDefaultDmnEngineConfiguration().buildEngine();
+        this.chooseTransport = parse(CHOOSE_TRANSPORT_RESOURCE, CHOOSE_TRANSPORT_DECISION);
+    }
+
+    //Transport the client can afford with the money in the wallet, null when no rule matches (no money count)
+    public String chooseTransport(BigDecimal moneyCount) {
+        evaluations.increment();
+        //the table only reads client.wallet.moneyCount
+        var client = Client.builder()
+                .wallet(Wallet.builder().moneyCount(moneyCount).build())
+                .build();
+
+        var result = dmnEngine.evaluateDecisionTable(chooseTransport, Map.of(CLIENT, client)).getFirstResult();
+        return result == null ? null : result.getEntry(TRANSPORT);
+    }
+
+    private DmnDecision parse(String resource, String decisionKey) {
+        try (var inputStream = getClass().getClassLoader().getResourceAsStream(resource)) {
+            if (inputStream == null) {
+                throw new IllegalStateException(String.format("Decision resource %s is not found", resource));
+            }
+            var decision = dmnEngine.parseDecisionRequirementsGraph(inputStream).getDecision(decisionKey);
+            if (decision == null) {
+                throw new IllegalStateException(String.format("Decision %s is not found in %s", decisionKey, resource));
+            }
+            log.info(String.format("Decision %s is parsed from %s", decisionKey, resource));
+            return decision;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    long evaluations() {
+        return evaluations.sum();
+    }
+}
@@ -0,0 +1,26 @@
+package com.example.bankService.service.decision;
+
+//Boolean outcomes of the decision tasks, packed into DecisionFlags.
+//The bit is what is stored in the database, a flag keeps it when others are added or removed
+public enum DecisionFlag {
+
+    CRIMINAL(0),
+    VALID_USER(1),
+    EXISTING_USER(2),
+    SMS_CODE_VALID(3);
+
+    private final int bit;
+
+    DecisionFlag(int bit) {
+        this.bit = bit;
+    }
+
+    long valueMask() {
+        return 1L << bit;
+    }
+
+    //the upper half of the long remembers which flags have been written at all
+    long writtenMask() {
+        return 1L << (bit + 32);
+    }
+}
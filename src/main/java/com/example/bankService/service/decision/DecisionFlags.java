@@ -0,0 +1,97 @@
+package com.example.bankService.service.decision;
+
+import com.fasterxml.jackson.annotation.JsonValue;
+import lombok.EqualsAndHashCode;
+import org.camunda.bpm.engine.delegate.VariableScope;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+//All decision flags of one process instance in a single long variable, so the decision tasks of a deposit opening
+//write one ACT_RU_VARIABLE row (and one ACT_HI_VARINST row) instead of one per flag. Stored by
+//DecisionFlagsSerializer in the LONG_ column. Gateways read the typed accessors, ${decisionFlags.criminal},
+//and reading a flag no task has written fails like the missing variable did before.
+@EqualsAndHashCode
+public final class DecisionFlags {
+
+    public static final String VARIABLE = "decisionFlags";
+
+    static final DecisionFlags NONE = new DecisionFlags(0L);
+
+    private final long bits;
+
+    private DecisionFlags(long bits) {
+        this.bits = bits;
+    }
+
+    static DecisionFlags ofBits(long bits) {
+        return bits == 0L ? NONE : new DecisionFlags(bits);
+    }
+
+    public static DecisionFlags of(VariableScope scope) {
+        var flags = (DecisionFlags) scope.getVariable(VARIABLE);
+        return flags == null ? NONE : flags;
+    }
+
+    public DecisionFlags with(DecisionFlag flag, boolean value) {
+        var written = bits | flag.writtenMask();
+        return ofBits(value ? written | flag.valueMask() : written & ~flag.valueMask());
+    }
+
+    public boolean is(DecisionFlag flag) {
+        if ((bits & flag.writtenMask()) == 0) {
+            throw new IllegalStateException(String.format("The decision flag %s has not been set", flag));
+        }
+        return (bits & flag.valueMask()) != 0;
+    }
+
+    public boolean isSet(DecisionFlag flag) {
+        return (bits & flag.writtenMask()) != 0;
+    }
+
+    public boolean isCriminal() {
+        return is(DecisionFlag.CRIMINAL);
+    }
+
+    public boolean isValidUser() {
+        return is(DecisionFlag.VALID_USER);
+    }
+
+    public boolean isExistingUser() {
+        return is(DecisionFlag.EXISTING_USER);
+    }
+
+    public boolean isSmsCodeValid() {
+        return is(DecisionFlag.SMS_CODE_VALID);
+    }
+
+    public long bits() {
+        return bits;
+    }
+
+    public void writeTo(VariableScope scope) {
+        scope.setVariable(VARIABLE, new DecisionFlagsValue(this, false));
+    }
+
+    //for flags only read by the gateway right after the task, nothing is stored
+    public void writeTransientTo(VariableScope scope) {
+        scope.setVariable(VARIABLE, new DecisionFlagsValue(this, true));
+    }
+
+    //what the REST API and cockpit show, only the flags that have been written
+    @JsonValue
+    public Map<DecisionFlag, Boolean> toMap() {
+        var map = new EnumMap<DecisionFlag, Boolean>(DecisionFlag.class);
+        for (var flag : DecisionFlag.values()) {
+            if (isSet(flag)) {
+                map.put(flag, is(flag));
+            }
+        }
+        return map;
+    }
+
+    @Override
+    public String toString() {
+        return toMap().toString();
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.bankService.service.decision;
+
+import org.camunda.bpm.engine.impl.variable.serializer.AbstractTypedValueSerializer;
+import org.camunda.bpm.engine.impl.variable.serializer.ValueFields;
+import org.camunda.bpm.engine.variable.impl.value.UntypedValueImpl;
+import org.camunda.bpm.engine.variable.value.TypedValue;
+
+//Writes DecisionFlags to the LONG_ column of the variable row, nothing goes to ACT_GE_BYTEARRAY
+public class DecisionFlagsSerializer extends AbstractTypedValueSerializer<DecisionFlagsValue> {
+
+    public static final String NAME = "bank-decision-flags";
+
+    public DecisionFlagsSerializer() {
+        super(DecisionFlagsValueType.INSTANCE);
+    }
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public void writeValue(DecisionFlagsValue value, ValueFields valueFields) {
+        valueFields.setLongValue(value.getValue().bits());
+    }
+
+    @Override
+    public DecisionFlagsValue readValue(ValueFields valueFields, boolean deserializeValue, boolean asTransientValue) {
+        var bits = valueFields.getLongValue();
+        return new DecisionFlagsValue(DecisionFlags.ofBits(bits == null ? 0L : bits), asTransientValue);
+    }
+
+    @Override
+    public DecisionFlagsValue convertToTypedValue(UntypedValueImpl untypedValue) {
+        return new DecisionFlagsValue((DecisionFlags) untypedValue.getValue(), untypedValue.isTransient());
+    }
+
+    @Override
+    protected boolean canWriteValue(TypedValue value) {
+        return value.getValue() instanceof DecisionFlags;
+    }
+}
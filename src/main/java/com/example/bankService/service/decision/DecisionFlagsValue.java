@@ -0,0 +1,11 @@
+package com.example.bankService.service.decision;
+
+import org.camunda.bpm.engine.variable.impl.value.AbstractTypedValue;
+
+public class DecisionFlagsValue extends AbstractTypedValue<DecisionFlags> {
+
+    public DecisionFlagsValue(DecisionFlags value, boolean isTransient) {
+        super(value, DecisionFlagsValueType.INSTANCE);
+        this.isTransient = isTransient;
+    }
+}
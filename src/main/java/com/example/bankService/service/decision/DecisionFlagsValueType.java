@@ -0,0 +1,38 @@
+package com.example.bankService.service.decision;
+
+import org.camunda.bpm.engine.variable.impl.type.AbstractValueTypeImpl;
+import org.camunda.bpm.engine.variable.value.TypedValue;
+
+import java.util.HashMap;
+import java.util.Map;
+
+//A type of its own, so no other serializer claims DecisionFlagsValue and the LONG_ column is read back as flags
+public class DecisionFlagsValueType extends AbstractValueTypeImpl {
+
+    public static final String NAME = "decisionflags";
+
+    public static final DecisionFlagsValueType INSTANCE = new DecisionFlagsValueType();
+
+    private DecisionFlagsValueType() {
+        super(NAME);
+    }
+
+    @Override
+    public boolean isPrimitiveValueType() {
+        return false;
+    }
+
+    @Override
+    public Map<String, Object> getValueInfo(TypedValue typedValue) {
+        var valueInfo = new HashMap<String, Object>();
+        if (typedValue.isTransient()) {
+            valueInfo.put(VALUE_INFO_TRANSIENT, true);
+        }
+        return valueInfo;
+    }
+
+    @Override
+    public TypedValue createValue(Object value, Map<String, Object> valueInfo) {
+        return new DecisionFlagsValue((DecisionFlags) value, Boolean.TRUE.equals(isTransient(valueInfo)));
+    }
+}
@@ -0,0 +1,23 @@
+package com.example.bankService.service.decision;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class DecisionMetrics implements MeterBinder {
+
+    DecisionEvaluationService decisionEvaluationService;
+
+    @Override
+    public void bindTo(MeterRegistry meterRegistry) {
+        FunctionCounter.builder("bank.decision.evaluations", decisionEvaluationService, DecisionEvaluationService::evaluations)
+                .register(meterRegistry);
+    }
+}
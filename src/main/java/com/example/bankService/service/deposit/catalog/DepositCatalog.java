@@ -0,0 +1,58 @@
+package com.example.bankService.service.deposit.catalog;
+
+import com.example.bankService.model.Deposit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static com.example.bankService.util.Constants.BANK_DEPOSITS;
+
+//Shared, versioned deposit product catalog. Process instances keep only the catalog version
+//(depositCatalogVersion variable) and the chosen deposit name, the products themselves stay here.
+@Slf4j
+@Service
+public class DepositCatalog {
+
+    private final Map<Long, DepositCatalogSnapshot> versions = new ConcurrentHashMap<>();
+    private volatile DepositCatalogSnapshot current;
+
+    public DepositCatalog() {
+        //todo obtain the list of deposits from DB
+        publish(BANK_DEPOSITS);
+    }
+
+    //Older versions are kept, so running instances still resolve the products they were offered
+    public synchronized DepositCatalogSnapshot publish(List<Deposit> deposits) {
+        var version = current == null ? 1 : current.version() + 1;
+        var snapshot = new DepositCatalogSnapshot(version, deposits);
+
+        versions.put(version, snapshot);
+        current = snapshot;
+
+        log.info(String.format("The deposit catalog version %s has been published with %s deposits", version, snapshot.size()));
+        return snapshot;
+    }
+
+    public DepositCatalogSnapshot current() {
+        return current;
+    }
+
+    //falls back to the current version for instances started before the catalog was introduced, and for versions
+    //published before a restart: the versions are only kept in memory until the catalog is read from the DB
+    public DepositCatalogSnapshot version(Long version) {
+        if (version == null) {
+            return current;
+        }
+        var snapshot = versions.get(version);
+        if (snapshot == null) {
+            var fallback = current;
+            log.warn(String.format("The deposit catalog version %s is not known, the current version %s is used instead",
+                    version, fallback.version()));
+            return fallback;
+        }
+        return snapshot;
+    }
+}
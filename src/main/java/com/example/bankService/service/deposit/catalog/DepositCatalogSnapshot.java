@@ -0,0 +1,64 @@
+package com.example.bankService.service.deposit.catalog;
+
+import com.example.bankService.model.Deposit;
+import org.camunda.bpm.engine.variable.Variables;
+import org.camunda.bpm.engine.variable.value.ObjectValue;
+import org.camunda.spin.DataFormats;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.camunda.spin.Spin.JSON;
+
+//One immutable version of the bank deposit products, indexed by name
+public final class DepositCatalogSnapshot {
+
+    private final long version;
+    private final List<Deposit> deposits;
+    private final Map<String, Deposit> depositsByName;
+    private volatile String serializedDeposits;
+
+    DepositCatalogSnapshot(long version, List<Deposit> deposits) {
+        this.version = version;
+        this.deposits = List.copyOf(deposits);
+        this.depositsByName = this.deposits.stream()
+                .collect(Collectors.toUnmodifiableMap(deposit -> normalize(deposit.getName()), Function.identity()));
+    }
+
+    public long version() {
+        return version;
+    }
+
+    public List<Deposit> deposits() {
+        return deposits;
+    }
+
+    public int size() {
+        return deposits.size();
+    }
+
+    public Optional<Deposit> findByName(String name) {
+        return name == null ? Optional.empty() : Optional.ofNullable(depositsByName.get(normalize(name)));
+    }
+
+    //The deposits as an already serialized JSON variable value, Jackson runs once per catalog version, not per instance
+    public ObjectValue asJsonValue() {
+        var json = serializedDeposits;
+        if (json == null) {
+            json = JSON(deposits).toString();
+            serializedDeposits = json;
+        }
+        return Variables.serializedObjectValue(json)
+                .serializationDataFormat(Variables.SerializationDataFormats.JSON)
+                .objectTypeName(DataFormats.json().getMapper().getCanonicalTypeName(deposits))
+                .create();
+    }
+
+    private static String normalize(String name) {
+        return name.trim().toUpperCase(Locale.ROOT);
+    }
+}
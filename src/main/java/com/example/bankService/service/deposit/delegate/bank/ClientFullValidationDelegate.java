@@ -1,7 +1,9 @@
 package com.example.bankService.service.deposit.delegate.bank;
 
-import com.example.bankService.model.Client;
+import com.example.bankService.service.client.ClientAccessor;
 import com.example.bankService.service.ValidationService;
+import com.example.bankService.service.decision.DecisionFlag;
+import com.example.bankService.service.decision.DecisionFlags;
 import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
 import lombok.experimental.FieldDefaults;
@@ -10,8 +12,6 @@ import org.camunda.bpm.engine.delegate.DelegateExecution;
 import org.camunda.bpm.engine.delegate.JavaDelegate;
 import org.springframework.stereotype.Component;
 
-import static com.example.bankService.util.Constants.RIA;
-
 @Slf4j
 @RequiredArgsConstructor
 @Component("clientFullValidationDelegate")
@@ -19,27 +19,21 @@ import static com.example.bankService.util.Constants.RIA;
 public class ClientFullValidationDelegate implements JavaDelegate {
 
     ValidationService validationService;
+    ClientAccessor clientAccessor;
 
     @Override
     public void execute(DelegateExecution delegateExecution) throws Exception {
 
         log.info("The ClientFullValidationDelegate has started....");
 
-        //needs to investigate why the client here is null, hence why I hard coded Ria instead of getting here from execution
-//        var client = (Client) delegateExecution.getVariable("client");
-        var client = RIA;
-
-        var isCriminal = validationService.isClientWantedByPolice(client);
-        var isInBlackList = validationService.isClientInBlackList(client);
-        var isValidPassport = validationService.isValidPassport(client);
+        var client = clientAccessor.of(delegateExecution).getClient();
 
-        delegateExecution.setVariable("isCriminal", isCriminal);
+        var validationResult = validationService.validateAll(client);
 
-        if(isCriminal || isInBlackList || !isValidPassport){
-            delegateExecution.setVariable("isValidUser", false);
-        }else {
-            delegateExecution.setVariable("isValidUser", true);
-        }
+        DecisionFlags.of(delegateExecution)
+                .with(DecisionFlag.CRIMINAL, validationResult.isCriminal())
+                .with(DecisionFlag.VALID_USER, validationResult.isValidUser())
+                .writeTo(delegateExecution);
 
     }
 }
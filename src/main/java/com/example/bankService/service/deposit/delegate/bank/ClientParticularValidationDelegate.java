@@ -1,7 +1,9 @@
 package com.example.bankService.service.deposit.delegate.bank;
 
-import com.example.bankService.model.Client;
+import com.example.bankService.service.client.ClientAccessor;
 import com.example.bankService.service.ValidationService;
+import com.example.bankService.service.decision.DecisionFlag;
+import com.example.bankService.service.decision.DecisionFlags;
 import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
 import lombok.experimental.FieldDefaults;
@@ -10,8 +12,6 @@ import org.camunda.bpm.engine.delegate.DelegateExecution;
 import org.camunda.bpm.engine.delegate.JavaDelegate;
 import org.springframework.stereotype.Component;
 
-import static com.example.bankService.util.Constants.RIA;
-
 @Slf4j
 @RequiredArgsConstructor
 @Component("clientParticularValidationDelegate")
@@ -19,24 +19,21 @@ import static com.example.bankService.util.Constants.RIA;
 public class ClientParticularValidationDelegate  implements JavaDelegate {
 
     ValidationService validationService;
+    ClientAccessor clientAccessor;
 
     @Override
     public void execute(DelegateExecution delegateExecution) throws Exception {
 
         log.info("The clientParticularValidationDelegate has started....");
 
-        //needs to investigate why the client here is null, hence why I hard coded Ria instead of getting here from execution
-//        var client = (Client) delegateExecution.getVariable("client");
-        var client = RIA;
-
-        var isCriminal = validationService.isClientWantedByPolice(client);
+        var client = clientAccessor.of(delegateExecution).getClient();
 
-        delegateExecution.setVariable("isCriminal", isCriminal);
+        //particular validation only looks at the police list, the passport is left to the full validation
+        var isCriminal = validationService.validateListed(client).isCriminal();
 
-        if(isCriminal){
-            delegateExecution.setVariable("isValidUser", false);
-        }else {
-            delegateExecution.setVariable("isValidUser", true);
-        }
+        DecisionFlags.of(delegateExecution)
+                .with(DecisionFlag.CRIMINAL, isCriminal)
+                .with(DecisionFlag.VALID_USER, !isCriminal)
+                .writeTo(delegateExecution);
     }
 }
@@ -1,27 +1,33 @@
 package com.example.bankService.service.deposit.delegate.bank;
 
 
+import com.example.bankService.service.deposit.catalog.DepositCatalog;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
 import lombok.extern.slf4j.Slf4j;
 import org.camunda.bpm.engine.delegate.DelegateExecution;
 import org.camunda.bpm.engine.delegate.JavaDelegate;
 import org.springframework.stereotype.Component;
 
-import static com.example.bankService.util.Constants.BANK_DEPOSITS;
-
 @Slf4j
 @Component("depositListProvidingDelegate")
+@RequiredArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
 public class DepositListProvidingDelegate implements JavaDelegate {
 
+    DepositCatalog depositCatalog;
 
     @Override
     public void execute(DelegateExecution delegateExecution) throws Exception {
 
         log.info("the depositListProvidingDelegate has started.....");
 
-        //todo obtain the list of deposits from DB
-        log.info(String.format("The list of deposits provided by bank : %s", BANK_DEPOSITS));
+        var catalog = depositCatalog.current();
+        log.info(String.format("The list of deposits provided by bank (catalog version %s) : %s", catalog.version(), catalog.deposits()));
 
-        delegateExecution.setVariable("bankDeposits", BANK_DEPOSITS);
+        //only the version is kept in the instance, the deposits are resolved from the shared catalog
+        delegateExecution.setVariable("depositCatalogVersion", catalog.version());
 
 
 
@@ -1,60 +1,68 @@
 package com.example.bankService.service.deposit.delegate.bank;
 
-import com.example.bankService.model.Client;
 import com.example.bankService.model.Deposit;
 import com.example.bankService.model.DepositContract;
+import com.example.bankService.service.client.ClientAccessor;
+import com.example.bankService.service.client.ClientView;
+import com.example.bankService.service.deposit.catalog.DepositCatalog;
+import com.example.bankService.service.serialization.ModelVariables;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
 import lombok.extern.slf4j.Slf4j;
 import org.camunda.bpm.engine.delegate.DelegateExecution;
 import org.camunda.bpm.engine.delegate.JavaDelegate;
 import org.springframework.stereotype.Component;
 
 import java.time.OffsetDateTime;
-import java.util.List;
 import java.util.UUID;
 
-import static com.example.bankService.util.Constants.*;
-
 @Slf4j
 @Component("documentPreparationDelegate")
+@RequiredArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
 public class DocumentPreparationDelegate implements JavaDelegate {
 
+    DepositCatalog depositCatalog;
+    ModelVariables modelVariables;
+    ClientAccessor clientAccessor;
+
     @Override
     public void execute(DelegateExecution delegateExecution) throws Exception {
 
         log.info("the DocumentPreparationDelegate has started.....");
 
-        //needs to investigate why the client here is null, hence why I hard coded Ria instead of getting here from execution
-//        var client = (Client) delegateExecution.getVariable("client");
-          var client = RIA;
+        var client = clientAccessor.of(delegateExecution);
 
         var depositName = (String) delegateExecution.getVariable("depositName");
-        var deposits = (List<Deposit>) delegateExecution.getVariable("bankDeposits");
+        var depositCatalogVersion = (Long) delegateExecution.getVariable("depositCatalogVersion");
 
-        var choosenDeposit = deposits.stream()
-                .filter(deposit -> deposit.getName().equals(depositName))
-                .findAny()
+        var choosenDeposit = depositCatalog.version(depositCatalogVersion)
+                .findByName(depositName)
                 .orElseThrow(() -> new IllegalArgumentException("Deposit with name " + depositName + "is not exists"));
 
         //todo: call to DB for deposit contract obtaining
-       var blankDepositContract = blankDepositBLANK_DEPOSIT_CONTRACT;
-
-       var depositContract = fillDeposit(blankDepositContract, choosenDeposit, client);
-        delegateExecution.setVariable("preparedDepositContract", depositContract);
+       var depositContract = fillDeposit(choosenDeposit, client);
+        delegateExecution.setVariable("preparedDepositContract", modelVariables.typed("preparedDepositContract", depositContract));
 
     }
 
-    private DepositContract fillDeposit(DepositContract blankDepositContract, Deposit choosenDeposit, Client client){
+    //a new contract for every instance, the prepared contract is stored as a process variable
+    private DepositContract fillDeposit(Deposit choosenDeposit, ClientView client){
            var passport = client.getPassport();
-
-        return blankDepositContract.setId(UUID.randomUUID())
-                .setName(choosenDeposit.getName())
-                .setMinimalSum(choosenDeposit.getMinimalSum())
-                .setOpenDate(OffsetDateTime.now())
-                .setCloseDate(OffsetDateTime.now().plusMonths(choosenDeposit.getTermInMonth().longValue()))
-
-                .setClientName(passport.getName())
-                .setClientSurName(passport.getSurname())
-                .setClientPhoneNumber(client.getPhoneNumber());
+           var openDate = OffsetDateTime.now();
+
+        return DepositContract.builder()
+                .id(UUID.randomUUID())
+                .name(choosenDeposit.getName())
+                .minimalSum(choosenDeposit.getMinimalSum())
+                .openDate(openDate)
+                .closeDate(openDate.plusMonths(choosenDeposit.getTermInMonth().longValue()))
+
+                .clientName(passport.getName())
+                .clientSurName(passport.getSurname())
+                .clientPhoneNumber(client.getPhoneNumber())
+                .build();
 
     }
 }
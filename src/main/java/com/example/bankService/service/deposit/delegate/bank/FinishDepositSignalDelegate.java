@@ -0,0 +1,39 @@
+package com.example.bankService.service.deposit.delegate.bank;
+
+import com.example.bankService.service.client.ClientAccessor;
+import com.example.bankService.service.outbox.SignalOutboxRepository;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import lombok.extern.slf4j.Slf4j;
+import org.camunda.bpm.engine.delegate.DelegateExecution;
+import org.camunda.bpm.engine.delegate.JavaDelegate;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+
+//Throws the finishing signal through the outbox: one row in the deposit transaction, the congratulation processes
+//are started by SignalOutboxRelay once it has committed
+@Slf4j
+@Component("finishDepositSignalDelegate")
+@RequiredArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class FinishDepositSignalDelegate implements JavaDelegate {
+
+    public static final String SUCCESS_PROCESS_FINISHING_SIGNAL = "Signal_success_process_finishing";
+
+    ClientAccessor clientAccessor;
+    SignalOutboxRepository signalOutboxRepository;
+
+    @Override
+    public void execute(DelegateExecution delegateExecution) throws Exception {
+
+        log.info("The FinishDepositSignalDelegate has started....");
+
+        var variables = new HashMap<String, Object>();
+        variables.put("clientName", clientAccessor.of(delegateExecution).getName());
+        variables.put("ticket", delegateExecution.getVariable("ticket"));
+
+        signalOutboxRepository.append(SUCCESS_PROCESS_FINISHING_SIGNAL, variables);
+    }
+}
@@ -1,46 +1,47 @@
 package com.example.bankService.service.deposit.delegate.bank;
 
-import com.example.bankService.model.Client;
+import com.example.bankService.service.client.ClientAccessor;
+import com.example.bankService.service.sms.OtpStore;
+import com.example.bankService.service.sms.SmsMessage;
+import com.example.bankService.service.sms.SmsOutbox;
+import com.example.bankService.service.sms.VerificationCodeService;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
 import lombok.extern.slf4j.Slf4j;
 import org.camunda.bpm.engine.delegate.DelegateExecution;
 import org.camunda.bpm.engine.delegate.JavaDelegate;
 import org.springframework.stereotype.Component;
 
-import java.util.Optional;
-import java.util.Random;
-
-import static com.example.bankService.util.Constants.RIA;
 
 @Slf4j
 @Component("prepareSmsDelegate")
+@RequiredArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
 public class PrepareSmsDelegate implements JavaDelegate {
 
+    ClientAccessor clientAccessor;
+    SmsOutbox smsOutbox;
+    VerificationCodeService verificationCodeService;
+    OtpStore otpStore;
 
     @Override
     public void execute(DelegateExecution delegateExecution) throws Exception {
 
         log.info("the prepareSmsDelegate has started.....");
 
-        //needs to investigate why the client here is null, hence why I hard coded Ria instead of getting here from execution
-//        var client = (Client) delegateExecution.getVariable("client");
-        var client = RIA;
+        var client = clientAccessor.of(delegateExecution);
 
         log.info(String.format("Preparation for the SMS sending to tel.number: %s", client.getPhoneNumber()));
-        var code = prepareSmsCode();
+        var code = verificationCodeService.issue(delegateExecution.getProcessInstanceId());
+        //the hash and the count of sent codes stay out of the process variables
+        var otp = otpStore.issue(delegateExecution.getProcessInstanceId(), code.getHash(), code.getExpiresAt());
 
         log.info("Sending verification mobile code to client..........");
+        //goes out once this transaction has committed
+        smsOutbox.enqueue(new SmsMessage(client.getPhoneNumber(),
+                String.format("Your verification code: %s", code.getCode()), delegateExecution.getProcessInstanceId()));
 
-        delegateExecution.setVariable("sendMobileCode",code);
-
-        var sendMobileCodeCount = (Integer) delegateExecution.getVariable("sendMobileCodeCount");
-
-        Optional.ofNullable(sendMobileCodeCount)
-                .ifPresentOrElse(
-                        (count) -> delegateExecution.setVariable("sendMobileCodeCount", count + 1 ),
-                        () ->delegateExecution.setVariable("sendMobileCodeCount", 1));
-    }
-
-    private  int prepareSmsCode (){
-        return new Random().nextInt(1_000_000);
+        log.info(String.format("Verification code number %s has been issued", otp.getSentCount()));
     }
 }
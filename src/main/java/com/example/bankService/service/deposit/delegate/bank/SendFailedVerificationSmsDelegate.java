@@ -1,29 +1,29 @@
 package com.example.bankService.service.deposit.delegate.bank;
 
+import com.example.bankService.service.correlation.ProcessCorrelator;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
 import lombok.extern.slf4j.Slf4j;
-import org.camunda.bpm.engine.RuntimeService;
 import org.camunda.bpm.engine.delegate.DelegateExecution;
 import org.camunda.bpm.engine.delegate.JavaDelegate;
 import org.springframework.stereotype.Component;
 
 @Slf4j
 @Component("sendFailedVerificationSmsDelegate")
+@RequiredArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
 public class SendFailedVerificationSmsDelegate implements JavaDelegate {
 
     public static final  String START_FAILED_MESSAGE = "message_failed_sms_verification";
 
-    // we need the runtimeService for messages
-    RuntimeService runtimeService;
+    ProcessCorrelator processCorrelator;
 
     @Override
     public void execute(DelegateExecution delegateExecution) throws Exception {
         log.info("The sendFailedVerificationSmsDelegate has started....");
 
-        var businessKey = delegateExecution.getBusinessKey();
-
-        runtimeService.createMessageCorrelation(START_FAILED_MESSAGE)
-                .processInstanceBusinessKey(businessKey)
-                .correlateWithResult();
+        processCorrelator.reply(START_FAILED_MESSAGE, delegateExecution);
 
     }
 }
@@ -1,10 +1,10 @@
 package com.example.bankService.service.deposit.delegate.bank;
 
+import com.example.bankService.service.correlation.ProcessCorrelator;
 import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
 import lombok.experimental.FieldDefaults;
 import lombok.extern.slf4j.Slf4j;
-import org.camunda.bpm.engine.RuntimeService;
 import org.camunda.bpm.engine.delegate.DelegateExecution;
 import org.camunda.bpm.engine.delegate.JavaDelegate;
 import org.springframework.stereotype.Component;
@@ -17,19 +17,14 @@ public class SendSuccessVerificationSmsDelegate implements JavaDelegate {
 
     public static final  String START_SUCCESS_MESSAGE = "message_success_sms_verification";
 
-    // we need the runtimeService for messages
-    RuntimeService runtimeService;
+    ProcessCorrelator processCorrelator;
 
     @Override
     public void execute(DelegateExecution delegateExecution) throws Exception {
 
         log.info("The SendSuccessVerificationSmsDelegate has started....");
 
-        var businessKey = delegateExecution.getBusinessKey();
-
-        runtimeService.createMessageCorrelation(START_SUCCESS_MESSAGE)
-                .processInstanceBusinessKey(businessKey)
-                .correlateWithResult();
+        processCorrelator.reply(START_SUCCESS_MESSAGE, delegateExecution);
 
     }
 }
@@ -1,47 +1,58 @@
 package com.example.bankService.service.deposit.delegate.bank;
 
 
+import com.example.bankService.service.decision.DecisionFlag;
+import com.example.bankService.service.decision.DecisionFlags;
+import com.example.bankService.service.sms.OtpStore;
+import com.example.bankService.service.sms.VerificationCodeService;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
 import lombok.extern.slf4j.Slf4j;
-import org.apache.commons.lang3.ObjectUtils;
 import org.camunda.bpm.engine.delegate.BpmnError;
 import org.camunda.bpm.engine.delegate.DelegateExecution;
 import org.camunda.bpm.engine.delegate.JavaDelegate;
 import org.springframework.stereotype.Component;
 
-import java.util.Objects;
-import java.util.Optional;
-
 import static com.example.bankService.util.Constants.LIMIT_OF_VERIFICATION_SMS_ATTEMPTS_EXCEEDED;
 
 @Slf4j
 @Component("smsValidationDelegate")
+@RequiredArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
 public class SmsValidationDelegate implements JavaDelegate {
 
+    VerificationCodeService verificationCodeService;
+    OtpStore otpStore;
+
     @Override
     public void execute(DelegateExecution delegateExecution) throws Exception {
         log.info("The SmsValidationDelegate has started....");
 
         var obtainedMobileCode = (Integer) delegateExecution.getVariable("obtainedMobileCode");
-        var sendMobileCode = (Integer) delegateExecution.getVariable("sendMobileCode");
-
 
-        if (ObjectUtils.anyNull(obtainedMobileCode, sendMobileCode)) {
-            throw new IllegalArgumentException(String.format("One of the argument is null : %s , %s ", obtainedMobileCode, sendMobileCode));
+        if (obtainedMobileCode == null) {
+            throw new IllegalArgumentException("The obtained mobile code is null");
         }
 
-        if(Objects.equals(obtainedMobileCode, sendMobileCode)){
-            delegateExecution.setVariable("isSmsCodeValid", true);
-        }else {
-            var sendMobileCount = (Integer) Optional.ofNullable(delegateExecution.getVariable("sendMobileCount")).orElse(1);
+        var processInstanceId = delegateExecution.getProcessInstanceId();
+        var candidate = verificationCodeService.format(obtainedMobileCode);
 
-            if(sendMobileCount == 3){
-                throw new BpmnError(LIMIT_OF_VERIFICATION_SMS_ATTEMPTS_EXCEEDED, "The count of chances to verify mobile code is greater than allowed!");
-            }
-            delegateExecution.setVariable("isSmsCodeValid", false);
+        //an expired or forgotten code is refused like a wrong one, the client gets a new sms
+        var outcome = otpStore.attempt(processInstanceId, otp -> verificationCodeService.verify(processInstanceId,
+                candidate, otp.getCodeHash(), otp.getCodeExpiresAt()));
 
-            log.info("The verification sms code  does not match the sent one....");
+        if (outcome == OtpStore.Outcome.LIMIT_EXCEEDED) {
+            throw new BpmnError(LIMIT_OF_VERIFICATION_SMS_ATTEMPTS_EXCEEDED, "The count of chances to verify mobile code is greater than allowed!");
+        }
 
+        //only read by the gateway right after this task, so it is not stored
+        DecisionFlags.of(delegateExecution)
+                .with(DecisionFlag.SMS_CODE_VALID, outcome == OtpStore.Outcome.VALID)
+                .writeTransientTo(delegateExecution);
 
+        if (outcome != OtpStore.Outcome.VALID) {
+            log.info("The verification sms code  does not match the sent one....");
         }
     }
 
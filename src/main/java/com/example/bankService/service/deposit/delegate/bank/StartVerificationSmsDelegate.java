@@ -1,16 +1,16 @@
 package com.example.bankService.service.deposit.delegate.bank;
 
+import com.example.bankService.service.client.ClientAccessor;
+import com.example.bankService.service.correlation.ProcessCorrelator;
 import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
 import lombok.experimental.FieldDefaults;
 import lombok.extern.slf4j.Slf4j;
-import org.camunda.bpm.engine.RuntimeService;
 import org.camunda.bpm.engine.delegate.DelegateExecution;
 import org.camunda.bpm.engine.delegate.JavaDelegate;
+import org.camunda.bpm.engine.variable.Variables;
 import org.springframework.stereotype.Component;
 
-import static com.example.bankService.util.Constants.RIA;
-
 @Slf4j
 @Component("startVerificationSmsDelegate")
 @RequiredArgsConstructor
@@ -19,24 +19,19 @@ public class StartVerificationSmsDelegate implements JavaDelegate {
 
    public static final  String START_MESSAGE = "message_start_sms_verification";
 
-    // we need the runtimeService for messages
-    RuntimeService runtimeService;
+    ProcessCorrelator processCorrelator;
+    ClientAccessor clientAccessor;
 
     @Override
     public void execute(DelegateExecution delegateExecution) throws Exception {
 
         log.info("The StartVerificationSmsDelegate has started....");
 
-//        var businessKey = delegateExecution.getBusinessKey();
-        var businessKey = delegateExecution.getProcessBusinessKey();
-        //need to investigate why the client here is null, hence why I hard coded Ria instead of getting here from execution
-//        var client = (Client) delegateExecution.getVariable("client");
-        var client = RIA;
+        //handed over as stored, the sms process decodes it only if it needs to
+        var client = clientAccessor.serialized(delegateExecution);
 
-        runtimeService.createMessageCorrelation(START_MESSAGE)
-                .processInstanceBusinessKey(businessKey)
-                .setVariable("client", client)
-                .correlateWithResult();
+        processCorrelator.startByMessage(START_MESSAGE, delegateExecution,
+                Variables.createVariables().putValueTyped("client", client));
 
     }
 }
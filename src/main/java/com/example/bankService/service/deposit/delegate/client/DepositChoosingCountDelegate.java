@@ -1,5 +1,9 @@
 package com.example.bankService.service.deposit.delegate.client;
 
+import com.example.bankService.service.deposit.catalog.DepositCatalog;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
 import lombok.extern.slf4j.Slf4j;
 import org.camunda.bpm.engine.delegate.BpmnError;
 import org.camunda.bpm.engine.delegate.DelegateExecution;
@@ -8,13 +12,16 @@ import org.springframework.stereotype.Component;
 
 import java.util.Optional;
 
-import static com.example.bankService.util.Constants.BANK_DEPOSITS;
 import static com.example.bankService.util.Constants.NO_MORE_DEPOSITS_TO_OPEN;
 
 @Slf4j
 @Component("depositChoosingCountDelegate")
+@RequiredArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
 public class DepositChoosingCountDelegate implements JavaDelegate {
 
+    DepositCatalog depositCatalog;
+
     @Override
     public void execute(DelegateExecution delegateExecution) throws Exception {
         log.info("The depositChoosingCountDelegate has started....");
@@ -22,7 +29,9 @@ public class DepositChoosingCountDelegate implements JavaDelegate {
        var depositChoosingCount = Optional.ofNullable((Long) delegateExecution.getVariable("depositChoosingCount"))
                .orElse(1L);
 
-       if(depositChoosingCount == BANK_DEPOSITS.size()){
+       var depositCatalogVersion = (Long) delegateExecution.getVariable("depositCatalogVersion");
+
+       if(depositChoosingCount == depositCatalog.version(depositCatalogVersion).size()){
            throw new BpmnError(NO_MORE_DEPOSITS_TO_OPEN,
                    "The count of chances to deposit choosing is greater than number of bank deposits");
        }
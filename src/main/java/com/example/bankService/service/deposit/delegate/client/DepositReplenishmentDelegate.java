@@ -1,42 +1,45 @@
 package com.example.bankService.service.deposit.delegate.client;
 
-import com.example.bankService.model.Client;
 import com.example.bankService.model.DepositContract;
+import com.example.bankService.service.client.ClientAccessor;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
 import lombok.extern.slf4j.Slf4j;
 import org.camunda.bpm.engine.delegate.BpmnError;
 import org.camunda.bpm.engine.delegate.DelegateExecution;
 import org.camunda.bpm.engine.delegate.JavaDelegate;
 import org.springframework.stereotype.Component;
 
+import java.math.BigDecimal;
+
 import static com.example.bankService.util.Constants.NOT_ENOUGH_MONEY;
-import static com.example.bankService.util.Constants.RIA;
 
 @Slf4j
 @Component("depositReplenishmentDelegate")
+@RequiredArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
 public class DepositReplenishmentDelegate implements JavaDelegate {
 
+    ClientAccessor clientAccessor;
 
     @Override
     public void execute(DelegateExecution delegateExecution) throws Exception {
 
         log.info("The depositReplenishmentDelegate has started....");
 
-        // var client = (Client) delegateExecution.getVariable("client");
-         //needs to investigate why the client here is null, hence why I hard coded Ria instead of getting here from execution
-
-        var client = RIA;
+        var moneyOnWallet = clientAccessor.of(delegateExecution).getMoneyCount();
         var preparedDepositContract  = (DepositContract) delegateExecution.getVariable("preparedDepositContract");
 
-         if(!isClientHasEnoughMoney(client,preparedDepositContract)) {
+         if(!isClientHasEnoughMoney(moneyOnWallet, preparedDepositContract)) {
              throw new BpmnError(NOT_ENOUGH_MONEY,
                      "Client does not have enough money to open a deposit ");
         }
     }
 
 
-    private boolean isClientHasEnoughMoney(Client client, DepositContract preparedContract){
+    private boolean isClientHasEnoughMoney(BigDecimal moneyOnWallet, DepositContract preparedContract){
 
-        var moneyOnWallet = client.getWallet().getMoneyCount();
         var depositMinimalSum = preparedContract.getMinimalSum();
 
         return moneyOnWallet.compareTo(depositMinimalSum) >= 0;
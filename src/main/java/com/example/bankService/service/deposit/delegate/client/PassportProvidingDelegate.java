@@ -1,6 +1,9 @@
 package com.example.bankService.service.deposit.delegate.client;
 
-import com.example.bankService.model.Client;
+import com.example.bankService.service.client.ClientAccessor;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
 import lombok.extern.slf4j.Slf4j;
 import org.camunda.bpm.engine.delegate.BpmnError;
 import org.camunda.bpm.engine.delegate.DelegateExecution;
@@ -8,14 +11,16 @@ import org.camunda.bpm.engine.delegate.JavaDelegate;
 import org.springframework.stereotype.Component;
 
 
-import static com.example.bankService.util.Constants.RIA;
 import static com.example.bankService.util.Constants.SUDDEN_OPERATION_INTERRUPTION_ERROR;
 
 
 @Slf4j
 @Component("passportProvidingDelegate")
+@RequiredArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
 public class PassportProvidingDelegate implements JavaDelegate {
 
+    ClientAccessor clientAccessor;
 
     @Override
     public void execute(DelegateExecution delegateExecution) {
@@ -23,14 +28,10 @@ public class PassportProvidingDelegate implements JavaDelegate {
 
         delegateExecution.getVariables().forEach((k, v) -> log.info("Var {} = {}", k, v));
 
-
-//        var client = (Client) delegateExecution.getVariable("client");
-//needs to investigate why the client here is null, hence why I hard coded Ria instead of getting here from execution
-
-        var client = RIA;
+        var client = clientAccessor.of(delegateExecution);
         log.info("BusinessKey = {}", delegateExecution.getProcessInstance().getBusinessKey());
 
-        if (client == null) {
+        if (!client.isPresent()) {
             throw new BpmnError(SUDDEN_OPERATION_INTERRUPTION_ERROR, "Client variable is missing!");
         }
 
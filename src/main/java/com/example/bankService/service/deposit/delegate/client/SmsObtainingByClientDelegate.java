@@ -1,5 +1,9 @@
 package com.example.bankService.service.deposit.delegate.client;
 
+import com.example.bankService.service.sms.OtpStore;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
 import lombok.extern.slf4j.Slf4j;
 import org.camunda.bpm.engine.delegate.BpmnError;
 import org.camunda.bpm.engine.delegate.DelegateExecution;
@@ -10,15 +14,17 @@ import static com.example.bankService.util.Constants.VERIFICATION_SMS_NOT_OBTAIN
 
 @Slf4j
 @Component("smsObtainingByClientDelegate")
+@RequiredArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
 public class SmsObtainingByClientDelegate implements JavaDelegate {
 
+    OtpStore otpStore;
+
     @Override
     public void execute(DelegateExecution delegateExecution) throws Exception {
         log.info("The smsObtainingByClientDelegate has started....");
 
-        var variables = delegateExecution.getVariables();
-
-        if(!variables.containsKey("sendMobileCode")){
+        if(!otpStore.isIssued(delegateExecution.getProcessInstanceId())){
             throw new BpmnError(VERIFICATION_SMS_NOT_OBTAINED, "The verification sms is not obtained by client");
         }
 
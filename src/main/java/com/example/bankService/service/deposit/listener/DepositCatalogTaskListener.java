@@ -0,0 +1,29 @@
+package com.example.bankService.service.deposit.listener;
+
+import com.example.bankService.service.deposit.catalog.DepositCatalog;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import lombok.extern.slf4j.Slf4j;
+import org.camunda.bpm.engine.delegate.DelegateTask;
+import org.camunda.bpm.engine.delegate.TaskListener;
+import org.springframework.stereotype.Component;
+
+//The select-bank-deposit form renders its table from 'bankDeposits'. It is set as a task local variable
+//from the catalog version of the instance, so it is not copied between processes and is dropped with the task.
+@Slf4j
+@Component("depositCatalogTaskListener")
+@RequiredArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class DepositCatalogTaskListener implements TaskListener {
+
+    DepositCatalog depositCatalog;
+
+    @Override
+    public void notify(DelegateTask delegateTask) {
+        var version = (Long) delegateTask.getVariable("depositCatalogVersion");
+        var catalog = depositCatalog.version(version);
+
+        delegateTask.setVariableLocal("bankDeposits", catalog.asJsonValue());
+    }
+}
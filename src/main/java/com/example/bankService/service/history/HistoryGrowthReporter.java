@@ -0,0 +1,155 @@
+package com.example.bankService.service.history;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+//Samples the row counts of the ACT_HI_* tables and logs how fast they grow, so a history level or cleanup
+//setting that lets them run away shows up before the database does. The counts are the row estimates the database
+//keeps in its statistics, read with one catalog query per sample: a COUNT(*) scans the table or its primary key and
+//the history tables are the largest ones. Exact counts are opt-in (bank.history.report.exact) and only for the
+//configured history tables, ManagementService.getTableCount would count every ACT_* table including the runtime ones
+@Slf4j
+@Component
+public class HistoryGrowthReporter {
+
+    private static final Pattern HISTORY_TABLE = Pattern.compile("ACT_HI_[A-Z_]+");
+
+    //n_live_tup follows inserts and deletes as they happen, reltuples only changes with VACUUM and ANALYZE
+    private static final String POSTGRES_ESTIMATES = "SELECT relname, n_live_tup FROM pg_stat_user_tables " +
+            "WHERE schemaname = current_schema() AND relname LIKE 'act\\_hi\\_%'";
+    private static final String H2_ESTIMATES = "SELECT TABLE_NAME, ROW_COUNT_ESTIMATE FROM INFORMATION_SCHEMA.TABLES " +
+            "WHERE TABLE_SCHEMA = SCHEMA() AND TABLE_NAME LIKE 'ACT\\_HI\\_%'";
+    private static final String NO_ESTIMATES = "";
+
+    private static final int REPORTED_TABLES = 3;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Set<String> tables;
+    private final boolean exact;
+    private final Clock clock;
+    private final Map<String, Growth> growth = new ConcurrentHashMap<>();
+    private Instant sampledAt;
+    private String estimates;
+
+    @Autowired
+    public HistoryGrowthReporter(JdbcTemplate jdbcTemplate, HistoryProperties properties) {
+        this(jdbcTemplate, properties, Clock.systemUTC());
+    }
+
+    HistoryGrowthReporter(JdbcTemplate jdbcTemplate, HistoryProperties properties, Clock clock) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.exact = properties.getReport().isExact();
+        this.clock = clock;
+        //the names end up in the statements, only history table names are accepted
+        this.tables = new TreeSet<>();
+        for (var table : properties.getReport().getTables()) {
+            if (!HISTORY_TABLE.matcher(table).matches()) {
+                throw new IllegalArgumentException(String.format("%s is not a history table", table));
+            }
+            tables.add(table);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${bank.history.report.interval:PT5M}")
+    public synchronized void report() {
+        var now = clock.instant();
+        var hours = sampledAt == null ? 0 : Duration.between(sampledAt, now).toMillis() / 3_600_000d;
+
+        var rows = exact ? exactRowCounts() : estimatedRowCounts();
+        if (rows.isEmpty()) {
+            return;
+        }
+        rows.forEach((table, count) -> {
+            var previous = growth.get(table);
+            var rowsPerHour = previous == null || hours <= 0 ? 0 : (count - previous.rows()) / hours;
+            growth.put(table, new Growth(count, rowsPerHour));
+        });
+        sampledAt = now;
+
+        var total = rows.values().stream().mapToLong(Long::longValue).sum();
+        var totalPerHour = growth.values().stream().mapToDouble(Growth::rowsPerHour).sum();
+        var fastest = growth.entrySet().stream()
+                .sorted(Comparator.comparingDouble((Map.Entry<String, Growth> entry) -> entry.getValue().rowsPerHour()).reversed())
+                .limit(REPORTED_TABLES)
+                .map(entry -> String.format("%s %.0f/h", entry.getKey(), entry.getValue().rowsPerHour()))
+                .collect(Collectors.joining(", "));
+        log.info(String.format("History tables hold %s rows, growing by %.0f rows/h, fastest: %s", total, totalPerHour, fastest));
+    }
+
+    private Map<String, Long> estimatedRowCounts() {
+        var query = estimatesQuery();
+        if (query.equals(NO_ESTIMATES)) {
+            return Map.of();
+        }
+        var counts = new TreeMap<String, Long>();
+        tables.forEach(table -> counts.put(table, 0L));
+        jdbcTemplate.query(query, (RowCallbackHandler) resultSet -> {
+            var table = resultSet.getString(1).toUpperCase(Locale.ROOT);
+            if (counts.containsKey(table)) {
+                counts.put(table, Math.max(0, resultSet.getLong(2)));
+            }
+        });
+        return counts;
+    }
+
+    private String estimatesQuery() {
+        if (estimates == null) {
+            var database = jdbcTemplate.execute((ConnectionCallback<String>) connection ->
+                    connection.getMetaData().getDatabaseProductName());
+            estimates = switch (String.valueOf(database)) {
+                case "PostgreSQL" -> POSTGRES_ESTIMATES;
+                case "H2" -> H2_ESTIMATES;
+                default -> NO_ESTIMATES;
+            };
+            if (estimates.equals(NO_ESTIMATES)) {
+                log.warn(String.format("No row estimates are read from %s, the history growth is only reported " +
+                        "with bank.history.report.exact", database));
+            }
+        }
+        return estimates;
+    }
+
+    private Map<String, Long> exactRowCounts() {
+        var counts = new TreeMap<String, Long>();
+        for (var table : tables) {
+            var count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table, Long.class);
+            counts.put(table, count == null ? 0 : count);
+        }
+        return counts;
+    }
+
+    Set<String> tables() {
+        return tables;
+    }
+
+    double rows(String table) {
+        var sample = growth.get(table);
+        return sample == null ? Double.NaN : sample.rows();
+    }
+
+    double rowsPerHour(String table) {
+        var sample = growth.get(table);
+        return sample == null ? Double.NaN : sample.rowsPerHour();
+    }
+
+    private record Growth(long rows, double rowsPerHour) {
+    }
+}
@@ -0,0 +1,30 @@
+package com.example.bankService.service.history;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class HistoryMetrics implements MeterBinder {
+
+    HistoryGrowthReporter reporter;
+
+    @Override
+    public void bindTo(MeterRegistry meterRegistry) {
+        for (var table : reporter.tables()) {
+            Gauge.builder("bank.history.rows", reporter, r -> r.rows(table))
+                    .tag("table", table)
+                    .register(meterRegistry);
+            Gauge.builder("bank.history.growth", reporter, r -> r.rowsPerHour(table))
+                    .tag("table", table)
+                    .baseUnit("rows/h")
+                    .register(meterRegistry);
+        }
+    }
+}
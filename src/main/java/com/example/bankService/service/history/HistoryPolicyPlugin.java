@@ -0,0 +1,48 @@
+package com.example.bankService.service.history;
+
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import lombok.extern.slf4j.Slf4j;
+import org.camunda.bpm.engine.impl.cfg.AbstractProcessEnginePlugin;
+import org.camunda.bpm.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.camunda.bpm.engine.impl.history.HistoryLevel;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+
+//Registers the per-definition history level (selected with camunda.bpm.history-level: per-definition) and
+//configures the history cleanup from bank.history.cleanup
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class HistoryPolicyPlugin extends AbstractProcessEnginePlugin {
+
+    HistoryProperties properties;
+
+    @Override
+    public void preInit(ProcessEngineConfigurationImpl configuration) {
+        var historyLevels = configuration.getCustomHistoryLevels() == null
+                ? new ArrayList<HistoryLevel>()
+                : new ArrayList<>(configuration.getCustomHistoryLevels());
+
+        historyLevels.add(new PerDefinitionHistoryLevel(properties.getLevel(), properties.getDefinitions()));
+        configuration.setCustomHistoryLevels(historyLevels);
+
+        var cleanup = properties.getCleanup();
+        configuration.setHistoryCleanupStrategy(cleanup.getStrategy());
+        configuration.setHistoryCleanupBatchWindowStartTime(cleanup.getWindowStart());
+        configuration.setHistoryCleanupBatchWindowEndTime(cleanup.getWindowEnd());
+        configuration.setHistoryCleanupBatchSize(cleanup.getBatchSize());
+        configuration.setHistoryCleanupDegreeOfParallelism(cleanup.getDegreeOfParallelism());
+    }
+
+    @Override
+    public void postInit(ProcessEngineConfigurationImpl configuration) {
+        log.info(String.format("History: level %s (default %s, per definition %s), %s cleanup between %s and %s in batches of %s",
+                configuration.getHistoryLevel().getName(), properties.getLevel(), properties.getDefinitions(),
+                configuration.getHistoryCleanupStrategy(), properties.getCleanup().getWindowStart(),
+                properties.getCleanup().getWindowEnd(), configuration.getHistoryCleanupBatchSize()));
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.bankService.service.history;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Data
+@ConfigurationProperties(prefix = "bank.history")
+public class HistoryProperties {
+
+    //History level (none, activity, audit, full) of the definitions not listed in definitions, used when
+    //camunda.bpm.history-level is per-definition
+    String level = "full";
+    //History level per process definition key, e.g. activity keeps the activity instances but no variable history
+    Map<String, String> definitions = new HashMap<>();
+    Cleanup cleanup = new Cleanup();
+    Report report = new Report();
+
+    @Data
+    public static class Cleanup {
+        //removalTimeBased deletes by the removal time stamped on every history row when its root instance ends,
+        //endTimeBased has to find the ended instances first
+        String strategy = "removalTimeBased";
+        //Window (HH:mm, server time zone) in which the cleanup jobs run, outside of business hours
+        String windowStart = "20:00";
+        String windowEnd = "06:00";
+        //Root instances removed per cleanup job run, Camunda allows at most 500
+        int batchSize = 500;
+        //Cleanup jobs running at once, each one takes a job executor thread for the whole window
+        int degreeOfParallelism = 1;
+    }
+
+    @Data
+    public static class Report {
+        //How often the row counts of the ACT_HI_* tables are sampled and their growth logged
+        Duration interval = Duration.ofMinutes(5);
+        //Row estimates from the database statistics (PostgreSQL, H2) by default. Exact counts are one COUNT(*)
+        //per table and sample, for diagnosing only and with a much longer interval
+        boolean exact = false;
+        //History tables reported, the ones our history levels write to
+        List<String> tables = new ArrayList<>(List.of("ACT_HI_PROCINST", "ACT_HI_ACTINST", "ACT_HI_TASKINST",
+                "ACT_HI_VARINST", "ACT_HI_DETAIL", "ACT_HI_IDENTITYLINK", "ACT_HI_JOB_LOG", "ACT_HI_INCIDENT",
+                "ACT_HI_OP_LOG"));
+    }
+}
@@ -0,0 +1,101 @@
+package com.example.bankService.service.history;
+
+import com.example.bankService.util.ProcessDefinitionKeys;
+import org.camunda.bpm.engine.impl.history.AbstractHistoryLevel;
+import org.camunda.bpm.engine.impl.history.HistoryLevel;
+import org.camunda.bpm.engine.impl.history.event.HistoryEventType;
+import org.camunda.bpm.engine.impl.persistence.entity.ExecutionEntity;
+import org.camunda.bpm.engine.impl.persistence.entity.ExternalTaskEntity;
+import org.camunda.bpm.engine.impl.persistence.entity.IncidentEntity;
+import org.camunda.bpm.engine.impl.persistence.entity.JobEntity;
+import org.camunda.bpm.engine.impl.persistence.entity.TaskEntity;
+import org.camunda.bpm.engine.impl.persistence.entity.VariableInstanceEntity;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+//History level chosen per process definition key: the level of the definition an entity belongs to decides
+//whether its history event is written. Definitions that are not listed get the default level.
+//Camunda also asks without an entity, e.g. while parsing a definition, it is answered for the most detailed level
+//in use, the per entity answer comes when the event happens.
+public class PerDefinitionHistoryLevel extends AbstractHistoryLevel {
+
+    public static final String NAME = "per-definition";
+
+    private static final int ID = 11;
+    private static final List<HistoryLevel> BUILT_IN = List.of(HistoryLevel.HISTORY_LEVEL_NONE,
+            HistoryLevel.HISTORY_LEVEL_ACTIVITY, HistoryLevel.HISTORY_LEVEL_AUDIT, HistoryLevel.HISTORY_LEVEL_FULL);
+
+    private final HistoryLevel defaultLevel;
+    private final Map<String, HistoryLevel> levels;
+    private final Set<HistoryLevel> inUse;
+
+    public PerDefinitionHistoryLevel(String defaultLevel, Map<String, String> levels) {
+        this.defaultLevel = level(defaultLevel);
+        this.levels = levels.entrySet().stream()
+                .collect(Collectors.toUnmodifiableMap(Map.Entry::getKey, entry -> level(entry.getValue())));
+        this.inUse = new HashSet<>(this.levels.values());
+        this.inUse.add(this.defaultLevel);
+    }
+
+    @Override
+    public int getId() {
+        return ID;
+    }
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public boolean isHistoryEventProduced(HistoryEventType eventType, Object entity) {
+        if (entity == null) {
+            return inUse.stream().anyMatch(level -> level.isHistoryEventProduced(eventType, null));
+        }
+        return levelOf(entity).isHistoryEventProduced(eventType, entity);
+    }
+
+    HistoryLevel levelOf(Object entity) {
+        var definitionKey = definitionKey(entity);
+        return definitionKey == null ? defaultLevel : levels.getOrDefault(definitionKey, defaultLevel);
+    }
+
+    private String definitionKey(Object entity) {
+        if (entity instanceof JobEntity job) {
+            return job.getProcessDefinitionKey();
+        }
+        if (entity instanceof ExternalTaskEntity externalTask) {
+            return externalTask.getProcessDefinitionKey();
+        }
+        return ProcessDefinitionKeys.of(definitionId(entity));
+    }
+
+    private static String definitionId(Object entity) {
+        if (entity instanceof ExecutionEntity execution) {
+            return execution.getProcessDefinitionId();
+        }
+        if (entity instanceof VariableInstanceEntity variable) {
+            return variable.getProcessDefinitionId();
+        }
+        if (entity instanceof TaskEntity task) {
+            return task.getProcessDefinitionId();
+        }
+        if (entity instanceof IncidentEntity incident) {
+            return incident.getProcessDefinitionId();
+        }
+        return null;
+    }
+
+    private static HistoryLevel level(String name) {
+        return BUILT_IN.stream()
+                .filter(level -> level.getName().equals(name.toLowerCase(Locale.ROOT)))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException(String.format("Unknown history level %s, expected one of %s",
+                        name, BUILT_IN.stream().map(HistoryLevel::getName).toList())));
+    }
+}
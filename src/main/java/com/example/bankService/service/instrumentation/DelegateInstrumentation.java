@@ -0,0 +1,29 @@
+package com.example.bankService.service.instrumentation;
+
+import org.camunda.bpm.engine.delegate.JavaDelegate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+//Wraps every JavaDelegate bean in an InstrumentedDelegate, ${delegateExpression}s resolve to the wrapper.
+//The metrics are only looked up on the first execution, a post processor that depended on the MeterRegistry
+//would create it before the registry customizers and binders are in place
+@Component
+@ConditionalOnProperty(prefix = "bank.delegate-metrics", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class DelegateInstrumentation implements BeanPostProcessor {
+
+    private final ObjectProvider<DelegateMetrics> metrics;
+
+    public DelegateInstrumentation(ObjectProvider<DelegateMetrics> metrics) {
+        this.metrics = metrics;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof JavaDelegate delegate && !(bean instanceof InstrumentedDelegate)) {
+            return new InstrumentedDelegate(beanName, delegate, metrics);
+        }
+        return bean;
+    }
+}
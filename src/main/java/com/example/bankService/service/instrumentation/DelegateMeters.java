@@ -0,0 +1,123 @@
+package com.example.bankService.service.instrumentation;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import org.camunda.bpm.engine.delegate.DelegateExecution;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+//The meters of one delegate in one activity. Error and variable counters are registered on their first use
+final class DelegateMeters {
+
+    private static final String ALL = "*";
+    private static final Set<String> READS = Set.of("getVariable", "getVariableLocal", "getVariableTyped",
+            "getVariableLocalTyped", "hasVariable", "hasVariableLocal", "getVariables", "getVariablesLocal",
+            "getVariablesTyped", "getVariablesLocalTyped", "getVariableNames", "getVariableNamesLocal",
+            "hasVariables", "hasVariablesLocal");
+    private static final Set<String> WRITES = Set.of("setVariable", "setVariableLocal", "setVariables",
+            "setVariablesLocal", "removeVariable", "removeVariableLocal", "removeVariables", "removeVariablesLocal");
+
+    private final MeterRegistry meterRegistry;
+    private final Tags tags;
+    private final Timer timer;
+    private final boolean trackVariables;
+    private final Map<String, Counter> bpmnErrors = new ConcurrentHashMap<>();
+    private final Map<String, Counter> failures = new ConcurrentHashMap<>();
+    private final Map<String, Counter> reads = new ConcurrentHashMap<>();
+    private final Map<String, Counter> writes = new ConcurrentHashMap<>();
+
+    DelegateMeters(MeterRegistry meterRegistry, Tags tags, double[] percentiles, boolean percentileHistogram,
+                   boolean trackVariables) {
+        this.meterRegistry = meterRegistry;
+        this.tags = tags;
+        this.trackVariables = trackVariables;
+        this.timer = Timer.builder("bank.delegate.execution")
+                .tags(tags)
+                .publishPercentiles(percentiles)
+                .publishPercentileHistogram(percentileHistogram)
+                .register(meterRegistry);
+    }
+
+    void record(long nanos) {
+        timer.record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    void bpmnError(String code) {
+        counter(bpmnErrors, "bank.delegate.bpmn.errors", "code", code == null ? "none" : code).increment();
+    }
+
+    void failure(Exception e) {
+        counter(failures, "bank.delegate.failures", "exception", e.getClass().getSimpleName()).increment();
+    }
+
+    boolean tracksVariables() {
+        return trackVariables;
+    }
+
+    //The execution as the delegate sees it, with every variable access counted
+    DelegateExecution track(DelegateExecution execution) {
+        return (DelegateExecution) Proxy.newProxyInstance(DelegateExecution.class.getClassLoader(),
+                new Class<?>[]{DelegateExecution.class},
+                (proxy, method, args) -> {
+                    if (READS.contains(method.getName())) {
+                        access(reads, "read", args);
+                    } else if (WRITES.contains(method.getName())) {
+                        access(writes, "write", args);
+                    }
+                    return invoke(execution, method, args);
+                });
+    }
+
+    private void access(Map<String, Counter> counters, String access, Object[] args) {
+        var first = args == null || args.length == 0 ? null : args[0];
+        if (first instanceof String name) {
+            variable(counters, access, name);
+        } else if (first instanceof Map<?, ?> variables) {
+            variables.keySet().forEach(name -> variable(counters, access, String.valueOf(name)));
+        } else if (first instanceof Collection<?> names) {
+            names.forEach(name -> variable(counters, access, String.valueOf(name)));
+        } else {
+            variable(counters, access, ALL);
+        }
+    }
+
+    private void variable(Map<String, Counter> counters, String access, String name) {
+        var counter = counters.get(name);
+        if (counter == null) {
+            counter = counters.computeIfAbsent(name, variable -> Counter.builder("bank.delegate.variables")
+                    .tags(tags)
+                    .tag("variable", variable)
+                    .tag("access", access)
+                    .register(meterRegistry));
+        }
+        counter.increment();
+    }
+
+    private Counter counter(Map<String, Counter> counters, String name, String tag, String value) {
+        var counter = counters.get(value);
+        if (counter != null) {
+            return counter;
+        }
+        return counters.computeIfAbsent(value, ignored -> Counter.builder(name)
+                .tags(tags)
+                .tag(tag, value)
+                .register(meterRegistry));
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+}
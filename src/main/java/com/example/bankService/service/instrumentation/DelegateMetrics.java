@@ -0,0 +1,28 @@
+package com.example.bankService.service.instrumentation;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import org.springframework.stereotype.Component;
+
+//Meters of the instrumented delegates, all tagged with the delegate bean, the process definition key and the activity:
+//bank.delegate.execution timers, bank.delegate.bpmn.errors{code}, bank.delegate.failures{exception} and, when
+//tracked, bank.delegate.variables{variable, access=read|write}
+@Component
+public class DelegateMetrics {
+
+    private final MeterRegistry meterRegistry;
+    private final DelegateMetricsProperties properties;
+    private final double[] percentiles;
+
+    public DelegateMetrics(MeterRegistry meterRegistry, DelegateMetricsProperties properties) {
+        this.meterRegistry = meterRegistry;
+        this.properties = properties;
+        this.percentiles = properties.getPercentiles().stream().mapToDouble(Double::doubleValue).toArray();
+    }
+
+    DelegateMeters register(String delegate, String processDefinitionKey, String activityId) {
+        var tags = Tags.of("delegate", delegate, "process", processDefinitionKey, "activity", activityId);
+        return new DelegateMeters(meterRegistry, tags, percentiles, properties.isPercentileHistogram(),
+                properties.isTrackVariables());
+    }
+}
@@ -0,0 +1,22 @@
+package com.example.bankService.service.instrumentation;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@ConfigurationProperties(prefix = "bank.delegate-metrics")
+public class DelegateMetricsProperties {
+
+    //Wrap every JavaDelegate bean, false leaves the delegates as they are
+    boolean enabled = true;
+    //Percentiles of the execution timers, computed in the application from the HdrHistogram behind every timer
+    List<Double> percentiles = new ArrayList<>(List.of(0.5, 0.95, 0.99));
+    //Also publish the histogram buckets, for a monitoring backend aggregating percentiles over several instances
+    boolean percentileHistogram = false;
+    //Count the variables each delegate reads and writes. The execution is wrapped on every call, which costs an
+    //allocation and a reflective call per variable access, keep it for diagnosing
+    boolean trackVariables = false;
+}
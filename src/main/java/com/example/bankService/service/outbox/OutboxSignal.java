@@ -0,0 +1,14 @@
+package com.example.bankService.service.outbox;
+
+import lombok.Value;
+
+import java.util.Map;
+
+@Value
+public class OutboxSignal {
+
+    long id;
+    String signalName;
+    Map<String, Object> variables;
+    int attempts;
+}
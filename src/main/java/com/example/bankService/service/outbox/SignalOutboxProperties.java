@@ -0,0 +1,18 @@
+package com.example.bankService.service.outbox;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "bank.signal-outbox")
+public class SignalOutboxProperties {
+
+    //Signals sent in one transaction by the relay
+    int batchSize = 100;
+    //How often the relay looks for new rows, a full batch is followed by the next one right away
+    Duration pollInterval = Duration.ofSeconds(1);
+    //A row that failed this often stays in the table for inspection and is not sent again
+    int maxAttempts = 5;
+}
@@ -0,0 +1,100 @@
+package com.example.bankService.service.outbox;
+
+import lombok.extern.slf4j.Slf4j;
+import org.camunda.bpm.engine.RuntimeService;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+//Sends the signals written to BANK_SIGNAL_OUTBOX after the transaction that wrote them. The processes a signal starts
+//are created in the relay's transaction, so the deposit that threw it neither waits for them nor fails with them.
+//A batch is sent and deleted in one transaction, a failed batch is rolled back and retried signal by signal.
+//Relays are serialized within the node, running more than one node would need the rows to be claimed first.
+@Slf4j
+@Component
+public class SignalOutboxRelay {
+
+    private final SignalOutboxRepository repository;
+    private final SignalOutboxProperties properties;
+    private final RuntimeService runtimeService;
+    private final TransactionTemplate transactionTemplate;
+
+    private final LongAdder sent = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+
+    public SignalOutboxRelay(SignalOutboxRepository repository, SignalOutboxProperties properties,
+                             RuntimeService runtimeService, PlatformTransactionManager transactionManager) {
+        this.repository = repository;
+        this.properties = properties;
+        this.runtimeService = runtimeService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    //Sends batches until the outbox is drained or a batch had failures, returns the number of signals sent
+    @Scheduled(fixedDelayString = "${bank.signal-outbox.poll-interval:PT1S}")
+    public synchronized int relay() {
+        var relayed = 0;
+        List<OutboxSignal> batch;
+        do {
+            batch = repository.fetch(properties.getBatchSize(), properties.getMaxAttempts());
+            if (batch.isEmpty()) {
+                break;
+            }
+            var batchSent = sendBatch(batch);
+            relayed += batchSent;
+            if (batchSent < batch.size()) {
+                break;
+            }
+        } while (batch.size() == properties.getBatchSize());
+        return relayed;
+    }
+
+    private int sendBatch(List<OutboxSignal> batch) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                batch.forEach(this::send);
+                repository.delete(batch);
+            });
+            sent.add(batch.size());
+            return batch.size();
+        } catch (RuntimeException e) {
+            log.warn(String.format("Batch of %s signals failed, retrying one by one: %s", batch.size(), e.getMessage()));
+            return (int) batch.stream().filter(this::sendAlone).count();
+        }
+    }
+
+    private boolean sendAlone(OutboxSignal signal) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                send(signal);
+                repository.delete(List.of(signal));
+            });
+            sent.increment();
+            return true;
+        } catch (RuntimeException e) {
+            failed.increment();
+            log.error(String.format("Signal %s (outbox id %s) failed, attempt %s of %s: %s", signal.getSignalName(),
+                    signal.getId(), signal.getAttempts() + 1, properties.getMaxAttempts(), e.getMessage()));
+            repository.failed(signal);
+            return false;
+        }
+    }
+
+    private void send(OutboxSignal signal) {
+        runtimeService.createSignalEvent(signal.getSignalName())
+                .setVariables(signal.getVariables())
+                .send();
+    }
+
+    long sent() {
+        return sent.sum();
+    }
+
+    long failed() {
+        return failed.sum();
+    }
+}
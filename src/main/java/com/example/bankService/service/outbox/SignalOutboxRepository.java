@@ -0,0 +1,77 @@
+package com.example.bankService.service.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import org.springframework.boot.sql.init.dependency.DependsOnDatabaseInitialization;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Map;
+
+//BANK_SIGNAL_OUTBOX table, see db/bank-schema.sql. Rows are appended by delegates inside the engine transaction
+//and deleted by SignalOutboxRelay once their signal is sent. Variables are kept as a JSON object.
+@Repository
+@DependsOnDatabaseInitialization
+@RequiredArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class SignalOutboxRepository {
+
+    private static final TypeReference<Map<String, Object>> VARIABLES = new TypeReference<>() {
+    };
+
+    private static final String INSERT_SQL = "INSERT INTO BANK_SIGNAL_OUTBOX (SIGNAL_NAME, VARIABLES) VALUES (?, ?)";
+
+    private static final String FETCH_SQL = "SELECT ID, SIGNAL_NAME, VARIABLES, ATTEMPTS FROM BANK_SIGNAL_OUTBOX"
+            + " WHERE ATTEMPTS < ? ORDER BY ID FETCH FIRST ? ROWS ONLY";
+
+    private static final String DELETE_SQL = "DELETE FROM BANK_SIGNAL_OUTBOX WHERE ID = ?";
+
+    private static final String FAILED_SQL = "UPDATE BANK_SIGNAL_OUTBOX SET ATTEMPTS = ATTEMPTS + 1 WHERE ID = ?";
+
+    JdbcTemplate jdbcTemplate;
+    ObjectMapper objectMapper;
+
+    public void append(String signalName, Map<String, Object> variables) {
+        jdbcTemplate.update(INSERT_SQL, signalName, write(variables));
+    }
+
+    //Oldest rows first, without the ones that failed maxAttempts times
+    public List<OutboxSignal> fetch(int limit, int maxAttempts) {
+        return jdbcTemplate.query(FETCH_SQL, (rs, rowNum) -> new OutboxSignal(
+                rs.getLong("ID"),
+                rs.getString("SIGNAL_NAME"),
+                read(rs.getString("VARIABLES")),
+                rs.getInt("ATTEMPTS")), maxAttempts, limit);
+    }
+
+    public void delete(List<OutboxSignal> signals) {
+        jdbcTemplate.batchUpdate(DELETE_SQL, signals.stream()
+                .map(signal -> new Object[]{signal.getId()})
+                .toList());
+    }
+
+    public void failed(OutboxSignal signal) {
+        jdbcTemplate.update(FAILED_SQL, signal.getId());
+    }
+
+    private String write(Map<String, Object> variables) {
+        try {
+            return objectMapper.writeValueAsString(variables);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Signal variables can not be written as JSON", e);
+        }
+    }
+
+    private Map<String, Object> read(String variables) {
+        try {
+            return objectMapper.readValue(variables, VARIABLES);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Signal variables can not be read from JSON", e);
+        }
+    }
+}
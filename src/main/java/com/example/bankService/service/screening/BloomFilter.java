@@ -0,0 +1,70 @@
+package com.example.bankService.service.screening;
+
+import java.nio.ByteBuffer;
+import java.nio.LongBuffer;
+
+//Off-heap bloom filter over precomputed 64-bit key hashes.
+//A negative answer is definitive, a positive one has to be confirmed by the exact ScreeningIndex lookup.
+public final class BloomFilter {
+
+    private final LongBuffer bits;
+    private final long bitCount;
+    private final int hashFunctions;
+    private long insertions;
+
+    private BloomFilter(long bitCount, int hashFunctions) {
+        var words = (int) ((bitCount + Long.SIZE - 1) / Long.SIZE);
+        this.bits = ByteBuffer.allocateDirect(words * Long.BYTES).asLongBuffer();
+        this.bitCount = (long) words * Long.SIZE;
+        this.hashFunctions = hashFunctions;
+    }
+
+    public static BloomFilter create(long expectedInsertions, double falsePositiveProbability) {
+        if (falsePositiveProbability <= 0 || falsePositiveProbability >= 1) {
+            throw new IllegalArgumentException("False positive probability should be between 0 and 1 : " + falsePositiveProbability);
+        }
+        var insertions = Math.max(1, expectedInsertions);
+        var bitCount = (long) Math.ceil(-insertions * Math.log(falsePositiveProbability) / (Math.log(2) * Math.log(2)));
+        var hashFunctions = Math.max(1, (int) Math.round((double) bitCount / insertions * Math.log(2)));
+
+        return new BloomFilter(Math.max(Long.SIZE, bitCount), hashFunctions);
+    }
+
+    public void put(long hash) {
+        long combined = hash;
+        long step = ScreeningKeys.mix64(hash) | 1;
+        for (int i = 0; i < hashFunctions; i++) {
+            var bit = (combined & Long.MAX_VALUE) % bitCount;
+            var word = (int) (bit >>> 6);
+            bits.put(word, bits.get(word) | (1L << bit));
+            combined += step;
+        }
+        insertions++;
+    }
+
+    public boolean mightContain(long hash) {
+        long combined = hash;
+        long step = ScreeningKeys.mix64(hash) | 1;
+        for (int i = 0; i < hashFunctions; i++) {
+            var bit = (combined & Long.MAX_VALUE) % bitCount;
+            if ((bits.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+            combined += step;
+        }
+        return true;
+    }
+
+    //(1 - e^(-kn/m))^k for the number of keys actually inserted
+    public double expectedFalsePositiveRate() {
+        return Math.pow(1 - Math.exp(-(double) hashFunctions * insertions / bitCount), hashFunctions);
+    }
+
+    public long memoryBytes() {
+        return bitCount / Byte.SIZE;
+    }
+
+    public int hashFunctions() {
+        return hashFunctions;
+    }
+}
@@ -0,0 +1,51 @@
+package com.example.bankService.service.screening;
+
+import com.example.bankService.model.Client;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+
+//Immutable snapshot of a watchlist: a bloom filter answers the common "not listed" case,
+//the exact hash set is only probed for the possible hits
+public final class ScreeningIndex {
+
+    private final Set<String> keys;
+    private final BloomFilter filter;
+
+    private ScreeningIndex(Set<String> keys, BloomFilter filter) {
+        this.keys = keys;
+        this.filter = filter;
+    }
+
+    public static ScreeningIndex of(Collection<Client> entries, double falsePositiveProbability) {
+        var keys = new HashSet<String>(Math.max(16, (int) (entries.size() / 0.75f) + 1));
+        var filter = BloomFilter.create(entries.size(), falsePositiveProbability);
+
+        entries.forEach(entry -> {
+            keys.add(ScreeningKeys.key(entry));
+            filter.put(ScreeningKeys.hash(entry));
+        });
+        return new ScreeningIndex(keys, filter);
+    }
+
+    public boolean contains(Client client) {
+        return mightContain(ScreeningKeys.hash(client)) && containsKey(ScreeningKeys.key(client));
+    }
+
+    public boolean mightContain(long hash) {
+        return filter.mightContain(hash);
+    }
+
+    public boolean containsKey(String key) {
+        return keys.contains(key);
+    }
+
+    public int size() {
+        return keys.size();
+    }
+
+    public BloomFilter filter() {
+        return filter;
+    }
+}
@@ -0,0 +1,141 @@
+package com.example.bankService.service.screening;
+
+import com.example.bankService.model.Client;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import static com.example.bankService.util.Constants.BANK_BLACK_LIST;
+import static com.example.bankService.util.Constants.POLICE_WANTED_LIST;
+
+@Slf4j
+@Component
+public class ScreeningIndexRegistry {
+
+    private static final Watchlist[] WATCHLISTS = Watchlist.values();
+
+    private final Map<Watchlist, WatchlistState> watchlists = new EnumMap<>(Watchlist.class);
+    private final ScreeningProperties properties;
+    private final ExecutorService rebuildExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        var thread = new Thread(runnable, "screening-index-rebuild");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public ScreeningIndexRegistry(ScreeningProperties properties) {
+        this.properties = properties;
+
+        //todo obtain the watchlists from DB
+        watchlists.put(Watchlist.POLICE_WANTED, new WatchlistState(build(POLICE_WANTED_LIST)));
+        watchlists.put(Watchlist.BANK_BLACK_LIST, new WatchlistState(build(BANK_BLACK_LIST)));
+    }
+
+    public boolean isListed(Watchlist watchlist, Client client) {
+        var state = watchlists.get(watchlist);
+        var index = state.index.get();
+
+        if (!index.mightContain(ScreeningKeys.hash(client))) {
+            state.filterRejections.increment();
+            return false;
+        }
+
+        var listed = index.containsKey(ScreeningKeys.key(client));
+        if (!listed) {
+            state.falsePositives.increment();
+        }
+        state.filterPasses.increment();
+        return listed;
+    }
+
+    //Checks the client against every watchlist with one hash and at most one key,
+    //bit (1 << watchlist.ordinal()) is set for each list the client is on
+    public int listedMask(Client client) {
+        var hash = ScreeningKeys.hash(client);
+        String key = null;
+        var mask = 0;
+
+        for (var watchlist : WATCHLISTS) {
+            var state = watchlists.get(watchlist);
+            var index = state.index.get();
+
+            if (!index.mightContain(hash)) {
+                state.filterRejections.increment();
+                continue;
+            }
+
+            if (key == null) {
+                key = ScreeningKeys.key(client);
+            }
+            if (index.containsKey(key)) {
+                mask |= 1 << watchlist.ordinal();
+            } else {
+                state.falsePositives.increment();
+            }
+            state.filterPasses.increment();
+        }
+        return mask;
+    }
+
+    //The new index is built aside and swapped in one step, so readers never observe a half-loaded list
+    public void reload(Watchlist watchlist, Collection<Client> entries) {
+        var index = build(entries);
+        watchlists.get(watchlist).index.set(index);
+
+        log.info(String.format("The %s watchlist has been reloaded with %s entries, bloom filter uses %s bytes",
+                watchlist, index.size(), index.filter().memoryBytes()));
+    }
+
+    public CompletableFuture<Void> reloadInBackground(Watchlist watchlist, Supplier<Collection<Client>> entries) {
+        return CompletableFuture.runAsync(() -> reload(watchlist, entries.get()), rebuildExecutor);
+    }
+
+    public ScreeningIndex index(Watchlist watchlist) {
+        return watchlists.get(watchlist).index.get();
+    }
+
+    public int size(Watchlist watchlist) {
+        return index(watchlist).size();
+    }
+
+    public long filterRejections(Watchlist watchlist) {
+        return watchlists.get(watchlist).filterRejections.sum();
+    }
+
+    public long filterPasses(Watchlist watchlist) {
+        return watchlists.get(watchlist).filterPasses.sum();
+    }
+
+    public long falsePositives(Watchlist watchlist) {
+        return watchlists.get(watchlist).falsePositives.sum();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        rebuildExecutor.shutdownNow();
+    }
+
+    private ScreeningIndex build(Collection<Client> entries) {
+        return ScreeningIndex.of(entries, properties.getFalsePositiveProbability());
+    }
+
+    private static final class WatchlistState {
+        final AtomicReference<ScreeningIndex> index;
+        final LongAdder filterRejections = new LongAdder();
+        final LongAdder filterPasses = new LongAdder();
+        final LongAdder falsePositives = new LongAdder();
+
+        WatchlistState(ScreeningIndex index) {
+            this.index = new AtomicReference<>(index);
+        }
+    }
+}
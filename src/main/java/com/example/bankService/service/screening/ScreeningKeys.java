@@ -0,0 +1,97 @@
+package com.example.bankService.service.screening;
+
+import com.example.bankService.model.Client;
+
+import java.time.LocalDate;
+
+//Builds the normalized composite key (passport number + name + surname + birth date) used by the screening index.
+//key() and hash() normalize the same way (trimmed, upper-cased char by char), so a client that matches by key
+//always produces the same hash and the bloom filter in front of the index never gives a false negative.
+public final class ScreeningKeys {
+
+    private static final char SEPARATOR = '|';
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private ScreeningKeys() {
+    }
+
+    public static String key(Client client) {
+        var key = new StringBuilder(48);
+        appendNormalized(key, passportNumber(client)).append(SEPARATOR);
+        appendNormalized(key, client.getName()).append(SEPARATOR);
+        appendNormalized(key, client.getSurname()).append(SEPARATOR);
+        if (client.getBirthDate() != null) {
+            key.append(client.getBirthDate());
+        }
+        return key.toString();
+    }
+
+    //Allocation free 64-bit hash of the same normalized fields
+    public static long hash(Client client) {
+        var hash = FNV_OFFSET_BASIS;
+        hash = hashNormalized(hash, passportNumber(client));
+        hash = hashNormalized(hash, client.getName());
+        hash = hashNormalized(hash, client.getSurname());
+        hash = hashDate(hash, client.getBirthDate());
+        return mix64(hash);
+    }
+
+    //MurmurHash3 finalizer, spreads the FNV result over all 64 bits
+    static long mix64(long value) {
+        value ^= value >>> 33;
+        value *= 0xff51afd7ed558ccdL;
+        value ^= value >>> 33;
+        value *= 0xc4ceb9fe1a85ec53L;
+        value ^= value >>> 33;
+        return value;
+    }
+
+    private static String passportNumber(Client client) {
+        var passport = client.getPassport();
+        return passport == null ? null : passport.getIdenticalNumber();
+    }
+
+    private static StringBuilder appendNormalized(StringBuilder key, String value) {
+        if (value != null) {
+            for (int i = trimStart(value), end = trimEnd(value); i < end; i++) {
+                key.append(Character.toUpperCase(value.charAt(i)));
+            }
+        }
+        return key;
+    }
+
+    private static long hashNormalized(long hash, String value) {
+        if (value != null) {
+            for (int i = trimStart(value), end = trimEnd(value); i < end; i++) {
+                hash = (hash ^ Character.toUpperCase(value.charAt(i))) * FNV_PRIME;
+            }
+        }
+        return (hash ^ SEPARATOR) * FNV_PRIME;
+    }
+
+    private static long hashDate(long hash, LocalDate value) {
+        if (value == null) {
+            return hash;
+        }
+        hash = (hash ^ value.getYear()) * FNV_PRIME;
+        hash = (hash ^ value.getMonthValue()) * FNV_PRIME;
+        return (hash ^ value.getDayOfMonth()) * FNV_PRIME;
+    }
+
+    private static int trimStart(String value) {
+        int start = 0;
+        while (start < value.length() && value.charAt(start) <= ' ') {
+            start++;
+        }
+        return start;
+    }
+
+    private static int trimEnd(String value) {
+        int end = value.length();
+        while (end > 0 && value.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        return end;
+    }
+}
@@ -0,0 +1,55 @@
+package com.example.bankService.service.screening;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class ScreeningMetrics implements MeterBinder {
+
+    ScreeningIndexRegistry registry;
+
+    @Override
+    public void bindTo(MeterRegistry meterRegistry) {
+        for (var watchlist : Watchlist.values()) {
+            var tag = watchlist.name();
+
+            Gauge.builder("bank.screening.index.size", registry, r -> r.size(watchlist))
+                    .tag("watchlist", tag)
+                    .register(meterRegistry);
+            Gauge.builder("bank.screening.filter.memory", registry, r -> r.index(watchlist).filter().memoryBytes())
+                    .tag("watchlist", tag)
+                    .baseUnit("bytes")
+                    .register(meterRegistry);
+            Gauge.builder("bank.screening.filter.expected.false.positive.rate", registry,
+                            r -> r.index(watchlist).filter().expectedFalsePositiveRate())
+                    .tag("watchlist", tag)
+                    .register(meterRegistry);
+            Gauge.builder("bank.screening.filter.observed.false.positive.rate", registry,
+                            r -> observedFalsePositiveRate(r, watchlist))
+                    .tag("watchlist", tag)
+                    .register(meterRegistry);
+
+            FunctionCounter.builder("bank.screening.filter.rejections", registry, r -> r.filterRejections(watchlist))
+                    .tag("watchlist", tag)
+                    .register(meterRegistry);
+            FunctionCounter.builder("bank.screening.filter.passes", registry, r -> r.filterPasses(watchlist))
+                    .tag("watchlist", tag)
+                    .register(meterRegistry);
+        }
+    }
+
+    //share of clients not on the list that still had to go to the exact lookup
+    private static double observedFalsePositiveRate(ScreeningIndexRegistry registry, Watchlist watchlist) {
+        var falsePositives = registry.falsePositives(watchlist);
+        var negatives = registry.filterRejections(watchlist) + falsePositives;
+        return negatives == 0 ? 0 : (double) falsePositives / negatives;
+    }
+}
@@ -0,0 +1,12 @@
+package com.example.bankService.service.screening;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties(prefix = "bank.screening")
+public class ScreeningProperties {
+
+    //Target false positive probability of the bloom filter in front of each watchlist
+    double falsePositiveProbability = 0.01;
+}
@@ -0,0 +1,6 @@
+package com.example.bankService.service.screening;
+
+public enum Watchlist {
+    POLICE_WANTED,
+    BANK_BLACK_LIST
+}
@@ -0,0 +1,88 @@
+package com.example.bankService.service.script;
+
+import org.camunda.bpm.engine.ScriptCompilationException;
+import org.camunda.bpm.engine.impl.scripting.ExecutableScript;
+import org.camunda.bpm.engine.impl.scripting.ResourceExecutableScript;
+import org.camunda.bpm.engine.impl.scripting.ScriptFactory;
+import org.camunda.bpm.engine.impl.scripting.SourceExecutableScript;
+
+import javax.script.Compilable;
+import javax.script.CompiledScript;
+import javax.script.ScriptEngine;
+import javax.script.ScriptException;
+import java.util.Map;
+
+//Creates the scripts of script tasks and listeners while a definition is parsed: the Java replacement of a script
+//resource when there is one, otherwise Camunda's own script that takes its compiled form from CompiledScriptCache.
+//Camunda never compiles scripts of an engine whose language is ECMAScript, which both Nashorn and GraalJS are, so
+//every JavaScript task parsed its source again on each execution. These scripts compile whatever engine is Compilable.
+//Scripts whose resource or source is an expression are left to Camunda.
+public class CachingScriptFactory extends ScriptFactory {
+
+    private static final String INLINE = "inline";
+
+    private final CompiledScriptCache cache;
+    private final Map<String, NativeScript> nativeScripts;
+
+    //cache may be null, then only the replacements apply
+    public CachingScriptFactory(CompiledScriptCache cache, Map<String, NativeScript> nativeScripts) {
+        this.cache = cache;
+        this.nativeScripts = nativeScripts;
+    }
+
+    @Override
+    public ExecutableScript createScriptFromResource(String language, String resource) {
+        var nativeScript = nativeScripts.get(resource);
+        if (nativeScript != null) {
+            return new NativeExecutableScript(language, nativeScript);
+        }
+        return cache == null ? super.createScriptFromResource(language, resource) : new CachedResourceScript(language, resource, cache);
+    }
+
+    @Override
+    public ExecutableScript createScriptFromSource(String language, String source) {
+        return cache == null ? super.createScriptFromSource(language, source) : new CachedSourceScript(language, source, cache);
+    }
+
+    //Null for engines that can not compile, Camunda interprets the source then
+    static CompiledScript compileSource(ScriptEngine scriptEngine, String source) {
+        if (!(scriptEngine instanceof Compilable compilable)) {
+            return null;
+        }
+        try {
+            return compilable.compile(source);
+        } catch (ScriptException e) {
+            throw new ScriptCompilationException("Unable to compile script: " + e.getMessage(), e);
+        }
+    }
+
+    static class CachedSourceScript extends SourceExecutableScript {
+
+        private final CompiledScriptCache cache;
+
+        CachedSourceScript(String language, String source, CompiledScriptCache cache) {
+            super(language, source);
+            this.cache = cache;
+        }
+
+        @Override
+        public CompiledScript compile(ScriptEngine scriptEngine, String language, String src) {
+            return cache.get(scriptEngine, INLINE, src, () -> compileSource(scriptEngine, src));
+        }
+    }
+
+    static class CachedResourceScript extends ResourceExecutableScript {
+
+        private final CompiledScriptCache cache;
+
+        CachedResourceScript(String language, String resource, CompiledScriptCache cache) {
+            super(language, resource);
+            this.cache = cache;
+        }
+
+        @Override
+        public CompiledScript compile(ScriptEngine scriptEngine, String language, String src) {
+            return cache.get(scriptEngine, scriptResource, src, () -> compileSource(scriptEngine, src));
+        }
+    }
+}
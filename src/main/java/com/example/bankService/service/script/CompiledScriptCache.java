@@ -0,0 +1,76 @@
+package com.example.bankService.service.script;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import javax.script.CompiledScript;
+import javax.script.ScriptEngine;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+//Compiled scripts shared by all process definition versions. Camunda compiles a script once per version of
+//a definition, so every redeployment and every definition using the same resource compiled it again.
+//The key is the engine name, not the engine: Camunda does not cache Nashorn or GraalJS engines (their THREADING is
+//null), so every script lookup gets a new engine instance. A compiled script keeps the engine that compiled it and
+//is evaluated with the bindings of each execution.
+@Slf4j
+@Component
+public class CompiledScriptCache {
+
+    private final ConcurrentHashMap<Key, CompiledScript> scripts = new ConcurrentHashMap<>();
+    private final int maxSize;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public CompiledScriptCache(ScriptProperties properties) {
+        this.maxSize = properties.getCacheSize();
+    }
+
+    //Null when the engine can not compile the script, Camunda interprets it then
+    public CompiledScript get(ScriptEngine engine, String name, String source, Supplier<CompiledScript> compiler) {
+        var key = new Key(engine.getFactory().getEngineName(), name, checksum(source));
+        var compiled = scripts.get(key);
+        if (compiled != null) {
+            hits.increment();
+            return compiled;
+        }
+
+        misses.increment();
+        compiled = compiler.get();
+        if (compiled != null && scripts.size() < maxSize) {
+            var previous = scripts.putIfAbsent(key, compiled);
+            return previous == null ? compiled : previous;
+        }
+        return compiled;
+    }
+
+    static String checksum(String source) {
+        try {
+            var digest = MessageDigest.getInstance("SHA-256").digest(source.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    int size() {
+        return scripts.size();
+    }
+
+    long hits() {
+        return hits.sum();
+    }
+
+    long misses() {
+        return misses.sum();
+    }
+
+    private record Key(String engineName, String name, String checksum) {
+    }
+}
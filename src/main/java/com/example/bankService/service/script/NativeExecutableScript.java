@@ -0,0 +1,27 @@
+package com.example.bankService.service.script;
+
+import org.camunda.bpm.engine.delegate.VariableScope;
+import org.camunda.bpm.engine.impl.scripting.ExecutableScript;
+
+import javax.script.Bindings;
+import javax.script.ScriptEngine;
+
+public class NativeExecutableScript extends ExecutableScript {
+
+    private final NativeScript nativeScript;
+
+    public NativeExecutableScript(String language, NativeScript nativeScript) {
+        super(language);
+        this.nativeScript = nativeScript;
+    }
+
+    //called by NativeScriptingEnvironment without an engine or bindings
+    public Object execute(VariableScope variableScope) {
+        return nativeScript.execute(variableScope);
+    }
+
+    @Override
+    protected Object evaluate(ScriptEngine scriptEngine, VariableScope variableScope, Bindings bindings) {
+        return execute(variableScope);
+    }
+}
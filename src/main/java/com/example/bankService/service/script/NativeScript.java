@@ -0,0 +1,12 @@
+package com.example.bankService.service.script;
+
+import org.camunda.bpm.engine.delegate.VariableScope;
+
+//Java replacement of a script resource, used for every camunda:resource with this path when
+//bank.script.native-scripts is on. It gets the variable scope the script would have seen as execution.
+public interface NativeScript {
+
+    String resource();
+
+    Object execute(VariableScope variableScope);
+}
@@ -0,0 +1,28 @@
+package com.example.bankService.service.script;
+
+import org.camunda.bpm.engine.delegate.VariableScope;
+import org.camunda.bpm.engine.impl.scripting.ExecutableScript;
+import org.camunda.bpm.engine.impl.scripting.ScriptFactory;
+import org.camunda.bpm.engine.impl.scripting.engine.ScriptingEngines;
+import org.camunda.bpm.engine.impl.scripting.env.ScriptEnvResolver;
+import org.camunda.bpm.engine.impl.scripting.env.ScriptingEnvironment;
+
+import java.util.List;
+
+//Camunda resolves the script engine and creates its bindings before it looks at the script. For Nashorn the bindings
+//are a new global object, which costs more than the replaced scripts themselves, so Java replacements skip both.
+public class NativeScriptingEnvironment extends ScriptingEnvironment {
+
+    public NativeScriptingEnvironment(ScriptFactory scriptFactory, List<ScriptEnvResolver> scriptEnvResolvers,
+                                      ScriptingEngines scriptingEngines) {
+        super(scriptFactory, scriptEnvResolvers, scriptingEngines);
+    }
+
+    @Override
+    public Object execute(ExecutableScript script, VariableScope scope) {
+        if (script instanceof NativeExecutableScript nativeScript) {
+            return nativeScript.execute(scope);
+        }
+        return super.execute(script, scope);
+    }
+}
@@ -0,0 +1,30 @@
+package com.example.bankService.service.script;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class ScriptCacheMetrics implements MeterBinder {
+
+    CompiledScriptCache cache;
+
+    @Override
+    public void bindTo(MeterRegistry meterRegistry) {
+        Gauge.builder("bank.script.cache.size", cache, CompiledScriptCache::size)
+                .register(meterRegistry);
+
+        //a miss is one compilation
+        FunctionCounter.builder("bank.script.cache.hits", cache, CompiledScriptCache::hits)
+                .register(meterRegistry);
+        FunctionCounter.builder("bank.script.cache.misses", cache, CompiledScriptCache::misses)
+                .register(meterRegistry);
+    }
+}
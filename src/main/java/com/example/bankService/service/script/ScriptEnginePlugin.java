@@ -0,0 +1,50 @@
+package com.example.bankService.service.script;
+
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.camunda.bpm.engine.impl.cfg.AbstractProcessEnginePlugin;
+import org.camunda.bpm.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class ScriptEnginePlugin extends AbstractProcessEnginePlugin {
+
+    ScriptProperties properties;
+    CompiledScriptCache cache;
+    List<NativeScript> nativeScripts;
+
+    @Override
+    public void preInit(ProcessEngineConfigurationImpl configuration) {
+        if (StringUtils.isNotBlank(properties.getEngine())) {
+            configuration.setScriptEngineNameJavaScript(properties.getEngine());
+        }
+
+        Map<String, NativeScript> replacements = properties.isNativeScripts()
+                ? nativeScripts.stream().collect(Collectors.toMap(NativeScript::resource, Function.identity()))
+                : Map.of();
+        if (properties.isCache() || !replacements.isEmpty()) {
+            configuration.setScriptFactory(new CachingScriptFactory(properties.isCache() ? cache : null, replacements));
+        }
+        log.info(String.format("Script tasks: engine %s, shared compiled scripts %s, Java replacements for %s",
+                StringUtils.defaultIfBlank(properties.getEngine(), "default"), properties.isCache(), replacements.keySet()));
+    }
+
+    @Override
+    public void postInit(ProcessEngineConfigurationImpl configuration) {
+        if (properties.isNativeScripts()) {
+            configuration.setScriptingEnvironment(new NativeScriptingEnvironment(configuration.getScriptFactory(),
+                    configuration.getEnvScriptResolvers(), configuration.getScriptingEngines()));
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.bankService.service.script;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties(prefix = "bank.script")
+public class ScriptProperties {
+
+    //Script engine for JavaScript tasks, e.g. nashorn or graal.js (needs the graaljs Maven profile).
+    //Empty lets Camunda choose: GraalJS when it is on the classpath, Nashorn otherwise
+    String engine;
+    //Share compiled scripts between process definition versions, keyed by script and checksum of its source
+    boolean cache = true;
+    //Upper bound of the shared cache, scripts compiled beyond it are only kept by their process definition
+    int cacheSize = 500;
+    //Run the Java replacements of the script resources (see NativeScript) instead of the JavaScript
+    boolean nativeScripts = false;
+}
@@ -0,0 +1,26 @@
+package com.example.bankService.service.script.replacement;
+
+import com.example.bankService.model.Client;
+import com.example.bankService.service.script.NativeScript;
+import lombok.extern.slf4j.Slf4j;
+import org.camunda.bpm.engine.delegate.VariableScope;
+import org.springframework.stereotype.Component;
+
+//Same text as script/call-to-police-script.js
+@Slf4j
+@Component
+public class CallToPoliceScript implements NativeScript {
+
+    @Override
+    public String resource() {
+        return "script/call-to-police-script.js";
+    }
+
+    @Override
+    public Object execute(VariableScope variableScope) {
+        var client = (Client) variableScope.getVariable("client");
+
+        log.info(String.format("Calling to the police, since client:\"%s\"is criminal !", client.getName()));
+        return null;
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.bankService.service.script.replacement;
+
+import com.example.bankService.service.script.NativeScript;
+import lombok.extern.slf4j.Slf4j;
+import org.camunda.bpm.engine.delegate.VariableScope;
+import org.springframework.stereotype.Component;
+
+import java.util.Objects;
+
+//Same text as script/bank-email-congrats.js
+@Slf4j
+@Component
+public class EmailCongratsScript implements NativeScript {
+
+    @Override
+    public String resource() {
+        return "script/bank-email-congrats.js";
+    }
+
+    @Override
+    public Object execute(VariableScope variableScope) {
+        var ticket = Objects.requireNonNullElse(variableScope.getVariable("ticket"), "your service");
+
+        log.info(String.format("Dear%s,"
+                + "\n By this email we want to tell you"
+                + "\n thank you for visiting our bank and for obtaining you %s!"
+                + "\n We hope that our services have met the highest standards."
+                + "\n If you have any questions, please feel free to contact us by email "
+                + "\n Best regard, \n Your Bank Team ", "Ria", ticket));
+        return null;
+    }
+}
@@ -0,0 +1,30 @@
+package com.example.bankService.service.script.replacement;
+
+import com.example.bankService.model.Client;
+import com.example.bankService.service.script.NativeScript;
+import lombok.extern.slf4j.Slf4j;
+import org.camunda.bpm.engine.delegate.VariableScope;
+import org.springframework.stereotype.Component;
+
+//Same text as script/run-out-of-the-bank.js
+@Slf4j
+@Component
+public class RunOutOfTheBankScript implements NativeScript {
+
+    @Override
+    public String resource() {
+        return "script/run-out-of-the-bank.js";
+    }
+
+    @Override
+    public Object execute(VariableScope variableScope) {
+        var client = (Client) variableScope.getVariable("client");
+
+        log.info(String.format("The client : \"%s\","
+                + "\n turned out to be a criminal and fled the bank "
+                + "\n fearing capture by the police who were called. "
+                + "\n He disappeared into the crowd, "
+                + "\n desperate to avoid arrest ! ", client.getName()));
+        return null;
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.bankService.service.script.replacement;
+
+import com.example.bankService.service.script.NativeScript;
+import lombok.extern.slf4j.Slf4j;
+import org.camunda.bpm.engine.delegate.VariableScope;
+import org.springframework.stereotype.Component;
+
+import java.util.Objects;
+
+//Same text as script/bank-sms-congrats.js
+@Slf4j
+@Component
+public class SmsCongratsScript implements NativeScript {
+
+    @Override
+    public String resource() {
+        return "script/bank-sms-congrats.js";
+    }
+
+    @Override
+    public Object execute(VariableScope variableScope) {
+        var ticket = Objects.requireNonNullElse(variableScope.getVariable("ticket"), "your service");
+
+        log.info(String.format("Dear%s,"
+                + "\n By this SMS we want to tell you"
+                + "\n thank you for visiting our bank and for obtaining you %s!"
+                + "\n We hope that our services have met the highest standards."
+                + "\n If you have any questions, please feel free to contact us by call "
+                + "\n Best regard, \n Your Bank Team ", "Ria", ticket));
+        return null;
+    }
+}
@@ -0,0 +1,94 @@
+package com.example.bankService.service.serialization;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.UUID;
+
+final class BinaryInput {
+
+    private final byte[] buffer;
+    private int position;
+
+    BinaryInput(byte[] buffer) {
+        this.buffer = buffer;
+    }
+
+    int readByte() {
+        checkAvailable(1);
+        return buffer[position++] & 0xFF;
+    }
+
+    long readVarLong() {
+        long zigzag = 0;
+        for (var shift = 0; shift < 64; shift += 7) {
+            var next = readByte();
+            zigzag |= (long) (next & 0x7F) << shift;
+            if ((next & 0x80) == 0) {
+                return (zigzag >>> 1) ^ -(zigzag & 1);
+            }
+        }
+        throw new IllegalStateException("Malformed varint at position " + position);
+    }
+
+    int readVarInt() {
+        return Math.toIntExact(readVarLong());
+    }
+
+    long readFixedLong() {
+        checkAvailable(8);
+        long value = 0;
+        for (var i = 0; i < 8; i++) {
+            value = (value << 8) | (buffer[position++] & 0xFF);
+        }
+        return value;
+    }
+
+    byte[] readBytes() {
+        var length = readVarInt();
+        checkAvailable(length);
+        var bytes = new byte[length];
+        System.arraycopy(buffer, position, bytes, 0, length);
+        position += length;
+        return bytes;
+    }
+
+    String readString() {
+        var length = readVarInt();
+        checkAvailable(length);
+        var value = new String(buffer, position, length, StandardCharsets.UTF_8);
+        position += length;
+        return value;
+    }
+
+    BigDecimal readDecimal() {
+        var scale = readVarInt();
+        return new BigDecimal(new BigInteger(readBytes()), scale);
+    }
+
+    LocalDate readDate() {
+        return LocalDate.ofEpochDay(readVarLong());
+    }
+
+    OffsetDateTime readDateTime() {
+        var epochSecond = readVarLong();
+        var nano = readVarLong();
+        var offset = ZoneOffset.ofTotalSeconds(readVarInt());
+        return OffsetDateTime.ofInstant(Instant.ofEpochSecond(epochSecond, nano), offset);
+    }
+
+    UUID readUuid() {
+        return new UUID(readFixedLong(), readFixedLong());
+    }
+
+    private void checkAvailable(int length) {
+        if (length < 0 || position + length > buffer.length) {
+            throw new IllegalStateException(String.format(
+                    "Unexpected end of binary value: need %s bytes at position %s of %s", length, position, buffer.length));
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.example.bankService.service.serialization;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+//Compact binary encoding of the model package: [tag][version][presence mask][fields...]
+public final class BinaryModelFormat {
+
+    public static final String NAME = "application/x-bank-binary";
+
+    private static final List<ModelCodec<?>> CODECS = List.of(
+            new ClientCodec(), new DepositCodec(), new DepositContractCodec());
+
+    private static final Map<Class<?>, ModelCodec<?>> BY_TYPE = CODECS.stream()
+            .collect(Collectors.toUnmodifiableMap(ModelCodec::type, Function.identity()));
+
+    private static final ModelCodec<?>[] BY_TAG = new ModelCodec<?>[CODECS.size() + 1];
+
+    static {
+        CODECS.forEach(codec -> BY_TAG[codec.tag()] = codec);
+    }
+
+    private BinaryModelFormat() {
+    }
+
+    public static boolean supports(Object value) {
+        return value != null && BY_TYPE.containsKey(value.getClass());
+    }
+
+    @SuppressWarnings("unchecked")
+    public static byte[] encode(Object value) {
+        var codec = (ModelCodec<Object>) BY_TYPE.get(value.getClass());
+        if (codec == null) {
+            throw new IllegalArgumentException(String.format("No binary codec for %s", value.getClass().getName()));
+        }
+
+        var out = new BinaryOutput(128);
+        out.writeByte(codec.tag());
+        out.writeByte(codec.version());
+        codec.write(value, out);
+
+        return out.toByteArray();
+    }
+
+    public static Object decode(byte[] bytes) {
+        var in = new BinaryInput(bytes);
+        var tag = in.readByte();
+        var version = in.readByte();
+
+        if (tag <= 0 || tag >= BY_TAG.length) {
+            throw new IllegalArgumentException(String.format("Unknown binary type tag %s", tag));
+        }
+
+        var codec = BY_TAG[tag];
+        if (version > codec.version()) {
+            throw new IllegalArgumentException(String.format(
+                    "%s is stored with schema version %s, this build reads up to %s",
+                    codec.type().getSimpleName(), version, codec.version()));
+        }
+
+        return codec.read(in, version);
+    }
+}
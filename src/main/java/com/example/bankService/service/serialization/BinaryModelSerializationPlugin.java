@@ -0,0 +1,22 @@
+package com.example.bankService.service.serialization;
+
+import org.camunda.bpm.engine.impl.cfg.AbstractProcessEnginePlugin;
+import org.camunda.bpm.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.camunda.bpm.engine.impl.variable.serializer.TypedValueSerializer;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+
+@Component
+public class BinaryModelSerializationPlugin extends AbstractProcessEnginePlugin {
+
+    @Override
+    public void preInit(ProcessEngineConfigurationImpl configuration) {
+        var serializers = configuration.getCustomPreVariableSerializers() == null
+                ? new ArrayList<TypedValueSerializer>()
+                : new ArrayList<>(configuration.getCustomPreVariableSerializers());
+
+        serializers.add(new BinaryModelValueSerializer());
+        configuration.setCustomPreVariableSerializers(serializers);
+    }
+}
@@ -0,0 +1,44 @@
+package com.example.bankService.service.serialization;
+
+import org.camunda.bpm.engine.impl.variable.serializer.AbstractObjectValueSerializer;
+
+//Camunda serializer for ObjectValues created with serializationDataFormat(BinaryModelFormat.NAME).
+//Untyped values still go to the default JSON serializer, see DefaultVariableSerializers#findSerializerForValue
+public class BinaryModelValueSerializer extends AbstractObjectValueSerializer {
+
+    public static final String NAME = "bank-binary";
+
+    public BinaryModelValueSerializer() {
+        super(BinaryModelFormat.NAME);
+    }
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    protected String getTypeNameForDeserialized(Object deserializedObject) {
+        return deserializedObject.getClass().getName();
+    }
+
+    @Override
+    protected byte[] serializeToByteArray(Object deserializedObject) {
+        return BinaryModelFormat.encode(deserializedObject);
+    }
+
+    @Override
+    protected Object deserializeFromByteArray(byte[] object, String objectTypeName) {
+        return BinaryModelFormat.decode(object);
+    }
+
+    @Override
+    protected boolean isSerializationTextBased() {
+        return false;
+    }
+
+    @Override
+    protected boolean canSerializeValue(Object value) {
+        return BinaryModelFormat.supports(value);
+    }
+}
@@ -0,0 +1,104 @@
+package com.example.bankService.service.serialization;
+
+import com.example.bankService.model.Client;
+import com.example.bankService.model.Passport;
+import com.example.bankService.model.Wallet;
+
+import static com.example.bankService.service.serialization.ModelCodec.bit;
+import static com.example.bankService.service.serialization.ModelCodec.has;
+
+//Client together with its nested Wallet and Passport, which are never stored as variables on their own
+final class ClientCodec implements ModelCodec<Client> {
+
+    @Override
+    public Class<Client> type() {
+        return Client.class;
+    }
+
+    @Override
+    public int tag() {
+        return 1;
+    }
+
+    @Override
+    public int version() {
+        return 1;
+    }
+
+    @Override
+    public void write(Client client, BinaryOutput out) {
+        out.writeVarLong(bit(client.getId(), 0) | bit(client.getName(), 1) | bit(client.getSurname(), 2)
+                | bit(client.getAddress(), 3) | bit(client.getPhoneNumber(), 4) | bit(client.getBirthDate(), 5)
+                | bit(client.getWallet(), 6) | bit(client.getPassport(), 7));
+
+        if (client.getId() != null) out.writeString(client.getId());
+        if (client.getName() != null) out.writeString(client.getName());
+        if (client.getSurname() != null) out.writeString(client.getSurname());
+        if (client.getAddress() != null) out.writeString(client.getAddress());
+        if (client.getPhoneNumber() != null) out.writeString(client.getPhoneNumber());
+        if (client.getBirthDate() != null) out.writeDate(client.getBirthDate());
+        if (client.getWallet() != null) writeWallet(client.getWallet(), out);
+        if (client.getPassport() != null) writePassport(client.getPassport(), out);
+    }
+
+    @Override
+    public Client read(BinaryInput in, int version) {
+        var mask = in.readVarLong();
+        var client = new Client();
+
+        if (has(mask, 0)) client.setId(in.readString());
+        if (has(mask, 1)) client.setName(in.readString());
+        if (has(mask, 2)) client.setSurname(in.readString());
+        if (has(mask, 3)) client.setAddress(in.readString());
+        if (has(mask, 4)) client.setPhoneNumber(in.readString());
+        if (has(mask, 5)) client.setBirthDate(in.readDate());
+        if (has(mask, 6)) client.setWallet(readWallet(in));
+        if (has(mask, 7)) client.setPassport(readPassport(in));
+
+        return client;
+    }
+
+    private static void writeWallet(Wallet wallet, BinaryOutput out) {
+        out.writeVarLong(bit(wallet.getMoneyCount(), 0));
+
+        if (wallet.getMoneyCount() != null) out.writeDecimal(wallet.getMoneyCount());
+    }
+
+    private static Wallet readWallet(BinaryInput in) {
+        var mask = in.readVarLong();
+        var wallet = new Wallet();
+
+        if (has(mask, 0)) wallet.setMoneyCount(in.readDecimal());
+
+        return wallet;
+    }
+
+    private static void writePassport(Passport passport, BinaryOutput out) {
+        out.writeVarLong(bit(passport.getIdenticalNumber(), 0) | bit(passport.getName(), 1)
+                | bit(passport.getSurname(), 2) | bit(passport.getAddress(), 3) | bit(passport.getBirthDate(), 4)
+                | bit(passport.getValidFrom(), 5) | bit(passport.getValidTo(), 6));
+
+        if (passport.getIdenticalNumber() != null) out.writeString(passport.getIdenticalNumber());
+        if (passport.getName() != null) out.writeString(passport.getName());
+        if (passport.getSurname() != null) out.writeString(passport.getSurname());
+        if (passport.getAddress() != null) out.writeString(passport.getAddress());
+        if (passport.getBirthDate() != null) out.writeDate(passport.getBirthDate());
+        if (passport.getValidFrom() != null) out.writeDate(passport.getValidFrom());
+        if (passport.getValidTo() != null) out.writeDate(passport.getValidTo());
+    }
+
+    private static Passport readPassport(BinaryInput in) {
+        var mask = in.readVarLong();
+        var passport = new Passport();
+
+        if (has(mask, 0)) passport.setIdenticalNumber(in.readString());
+        if (has(mask, 1)) passport.setName(in.readString());
+        if (has(mask, 2)) passport.setSurname(in.readString());
+        if (has(mask, 3)) passport.setAddress(in.readString());
+        if (has(mask, 4)) passport.setBirthDate(in.readDate());
+        if (has(mask, 5)) passport.setValidFrom(in.readDate());
+        if (has(mask, 6)) passport.setValidTo(in.readDate());
+
+        return passport;
+    }
+}
@@ -0,0 +1,59 @@
+package com.example.bankService.service.serialization;
+
+import com.example.bankService.model.Deposit;
+
+import static com.example.bankService.service.serialization.ModelCodec.bit;
+import static com.example.bankService.service.serialization.ModelCodec.has;
+
+final class DepositCodec implements ModelCodec<Deposit> {
+
+    @Override
+    public Class<Deposit> type() {
+        return Deposit.class;
+    }
+
+    @Override
+    public int tag() {
+        return 2;
+    }
+
+    @Override
+    public int version() {
+        return 1;
+    }
+
+    @Override
+    public void write(Deposit deposit, BinaryOutput out) {
+        out.writeVarLong(bit(deposit.getName(), 0) | bit(deposit.getMinimalSum(), 1) | bit(deposit.getCurrentSum(), 2)
+                | bit(deposit.getOpenDate(), 3) | bit(deposit.getCloseDate(), 4) | bit(deposit.getPercentage(), 5)
+                | bit(deposit.getIsCapitalized(), 6) | bit(deposit.getCurrency(), 7) | bit(deposit.getTermInMonth(), 8));
+
+        if (deposit.getName() != null) out.writeString(deposit.getName());
+        if (deposit.getMinimalSum() != null) out.writeDecimal(deposit.getMinimalSum());
+        if (deposit.getCurrentSum() != null) out.writeDecimal(deposit.getCurrentSum());
+        if (deposit.getOpenDate() != null) out.writeDateTime(deposit.getOpenDate());
+        if (deposit.getCloseDate() != null) out.writeDateTime(deposit.getCloseDate());
+        if (deposit.getPercentage() != null) out.writeFixedLong(Double.doubleToLongBits(deposit.getPercentage()));
+        if (deposit.getIsCapitalized() != null) out.writeByte(deposit.getIsCapitalized() ? 1 : 0);
+        if (deposit.getCurrency() != null) out.writeString(deposit.getCurrency());
+        if (deposit.getTermInMonth() != null) out.writeVarLong(deposit.getTermInMonth());
+    }
+
+    @Override
+    public Deposit read(BinaryInput in, int version) {
+        var mask = in.readVarLong();
+        var deposit = new Deposit();
+
+        if (has(mask, 0)) deposit.setName(in.readString());
+        if (has(mask, 1)) deposit.setMinimalSum(in.readDecimal());
+        if (has(mask, 2)) deposit.setCurrentSum(in.readDecimal());
+        if (has(mask, 3)) deposit.setOpenDate(in.readDateTime());
+        if (has(mask, 4)) deposit.setCloseDate(in.readDateTime());
+        if (has(mask, 5)) deposit.setPercentage(Double.longBitsToDouble(in.readFixedLong()));
+        if (has(mask, 6)) deposit.setIsCapitalized(in.readByte() != 0);
+        if (has(mask, 7)) deposit.setCurrency(in.readString());
+        if (has(mask, 8)) deposit.setTermInMonth(in.readVarInt());
+
+        return deposit;
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.bankService.service.serialization;
+
+import com.example.bankService.model.DepositContract;
+
+import static com.example.bankService.service.serialization.ModelCodec.bit;
+import static com.example.bankService.service.serialization.ModelCodec.has;
+
+final class DepositContractCodec implements ModelCodec<DepositContract> {
+
+    @Override
+    public Class<DepositContract> type() {
+        return DepositContract.class;
+    }
+
+    @Override
+    public int tag() {
+        return 3;
+    }
+
+    @Override
+    public int version() {
+        return 1;
+    }
+
+    @Override
+    public void write(DepositContract contract, BinaryOutput out) {
+        out.writeVarLong(bit(contract.getId(), 0) | bit(contract.getName(), 1) | bit(contract.getMinimalSum(), 2)
+                | bit(contract.getOpenDate(), 3) | bit(contract.getCloseDate(), 4) | bit(contract.getClientName(), 5)
+                | bit(contract.getClientSurName(), 6) | bit(contract.getClientPhoneNumber(), 7));
+
+        if (contract.getId() != null) out.writeUuid(contract.getId());
+        if (contract.getName() != null) out.writeString(contract.getName());
+        if (contract.getMinimalSum() != null) out.writeDecimal(contract.getMinimalSum());
+        if (contract.getOpenDate() != null) out.writeDateTime(contract.getOpenDate());
+        if (contract.getCloseDate() != null) out.writeDateTime(contract.getCloseDate());
+        if (contract.getClientName() != null) out.writeString(contract.getClientName());
+        if (contract.getClientSurName() != null) out.writeString(contract.getClientSurName());
+        if (contract.getClientPhoneNumber() != null) out.writeString(contract.getClientPhoneNumber());
+    }
+
+    @Override
+    public DepositContract read(BinaryInput in, int version) {
+        var mask = in.readVarLong();
+        var contract = new DepositContract();
+
+        if (has(mask, 0)) contract.setId(in.readUuid());
+        if (has(mask, 1)) contract.setName(in.readString());
+        if (has(mask, 2)) contract.setMinimalSum(in.readDecimal());
+        if (has(mask, 3)) contract.setOpenDate(in.readDateTime());
+        if (has(mask, 4)) contract.setCloseDate(in.readDateTime());
+        if (has(mask, 5)) contract.setClientName(in.readString());
+        if (has(mask, 6)) contract.setClientSurName(in.readString());
+        if (has(mask, 7)) contract.setClientPhoneNumber(in.readString());
+
+        return contract;
+    }
+}
@@ -0,0 +1,24 @@
+package com.example.bankService.service.serialization;
+
+//Hand written codec for one model type. Every object starts with a presence mask, bit i set when field i is not null,
+//so adding a field at the end keeps old values readable. The version is bumped only for incompatible layout changes
+interface ModelCodec<T> {
+
+    Class<T> type();
+
+    int tag();
+
+    int version();
+
+    void write(T value, BinaryOutput out);
+
+    T read(BinaryInput in, int version);
+
+    static long bit(Object field, int index) {
+        return field == null ? 0 : 1L << index;
+    }
+
+    static boolean has(long mask, int index) {
+        return (mask & (1L << index)) != 0;
+    }
+}
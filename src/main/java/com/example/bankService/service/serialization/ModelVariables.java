@@ -0,0 +1,26 @@
+package com.example.bankService.service.serialization;
+
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import org.camunda.bpm.engine.variable.Variables;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class ModelVariables {
+
+    SerializationProperties properties;
+
+    //Wraps a model object for setVariable, choosing the binary format when the variable is configured for it
+    public Object typed(String name, Object value) {
+        if (!properties.getBinaryVariables().contains(name) || !BinaryModelFormat.supports(value)) {
+            return value;
+        }
+
+        return Variables.objectValue(value)
+                .serializationDataFormat(BinaryModelFormat.NAME)
+                .create();
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.bankService.service.serialization;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.HashSet;
+import java.util.Set;
+
+@Data
+@ConfigurationProperties(prefix = "bank.serialization")
+public class SerializationProperties {
+
+    //Variable names stored in the compact binary format instead of JSON.
+    //Keep out anything a Camunda form reads (client, preparedDepositContract), forms can only render JSON
+    Set<String> binaryVariables = new HashSet<>();
+}
@@ -0,0 +1,51 @@
+package com.example.bankService.service.sms;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+//In-process provider for the dev profile and tests (bank.sms.provider=fake): waits for the configured round trip,
+//refuses a share of the batches and logs the rest. The text carries the verification code, so it is only logged at
+//DEBUG, which the dev profile switches on: it is the only place a demo user can read the code
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "bank.sms", name = "provider", havingValue = "fake")
+public class FakeSmsGateway implements SmsGateway {
+
+    private final SmsProperties.Fake properties;
+    private final LongAdder delivered = new LongAdder();
+
+    public FakeSmsGateway(SmsProperties properties) {
+        this.properties = properties.getFake();
+    }
+
+    @Override
+    public void send(List<SmsMessage> batch) {
+        try {
+            Thread.sleep(properties.getLatency().toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SmsDeliveryException("Interrupted while sending sms");
+        }
+
+        if (ThreadLocalRandom.current().nextDouble() < properties.getFailureRate()) {
+            throw new SmsDeliveryException(String.format("Fake provider refused a batch of %s sms", batch.size()));
+        }
+
+        batch.forEach(message -> {
+            log.info(String.format("Sms to tel.number: %s delivered (%s)", message.getPhoneNumber(), message.getReference()));
+            if (log.isDebugEnabled()) {
+                log.debug(String.format("Sms (%s) text: %s", message.getReference(), message.getText()));
+            }
+        });
+        delivered.add(batch.size());
+    }
+
+    public long delivered() {
+        return delivered.sum();
+    }
+}
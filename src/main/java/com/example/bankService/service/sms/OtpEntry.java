@@ -0,0 +1,20 @@
+package com.example.bankService.service.sms;
+
+import lombok.Value;
+import lombok.With;
+
+@Value
+@With
+public class OtpEntry {
+
+    String codeHash;
+    long codeExpiresAt;
+    int sentCount;
+    int failedCount;
+    //the entry itself, outlives the code so resends keep the failed count
+    long expiresAt;
+
+    boolean isExpired(long now) {
+        return now > expiresAt;
+    }
+}
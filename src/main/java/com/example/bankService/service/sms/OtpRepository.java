@@ -0,0 +1,75 @@
+package com.example.bankService.service.sms;
+
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import org.springframework.boot.sql.init.dependency.DependsOnDatabaseInitialization;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+//BANK_OTP table, see db/bank-schema.sql. One row per SmsVerification instance, looked up through the primary key.
+@Repository
+@DependsOnDatabaseInitialization
+@RequiredArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class OtpRepository {
+
+    private static final String FIND_SQL = "SELECT CODE_HASH, CODE_EXPIRES_AT, SENT_COUNT, FAILED_COUNT, EXPIRES_AT"
+            + " FROM BANK_OTP WHERE PROCESS_INSTANCE_ID = ?";
+
+    private static final String FIND_FOR_UPDATE_SQL = FIND_SQL + " FOR UPDATE";
+
+    private static final String INSERT_SQL = "INSERT INTO BANK_OTP"
+            + " (CODE_HASH, CODE_EXPIRES_AT, SENT_COUNT, FAILED_COUNT, EXPIRES_AT, PROCESS_INSTANCE_ID)"
+            + " VALUES (?, ?, ?, ?, ?, ?)";
+
+    private static final String UPDATE_SQL = "UPDATE BANK_OTP"
+            + " SET CODE_HASH = ?, CODE_EXPIRES_AT = ?, SENT_COUNT = ?, FAILED_COUNT = ?, EXPIRES_AT = ?"
+            + " WHERE PROCESS_INSTANCE_ID = ?";
+
+    private static final String DELETE_SQL = "DELETE FROM BANK_OTP WHERE PROCESS_INSTANCE_ID = ?";
+
+    private static final String DELETE_EXPIRED_SQL = "DELETE FROM BANK_OTP WHERE EXPIRES_AT < ?";
+
+    private static final RowMapper<OtpEntry> ENTRY = (rs, rowNum) -> new OtpEntry(
+            rs.getString("CODE_HASH"),
+            rs.getLong("CODE_EXPIRES_AT"),
+            rs.getInt("SENT_COUNT"),
+            rs.getInt("FAILED_COUNT"),
+            rs.getLong("EXPIRES_AT"));
+
+    JdbcTemplate jdbcTemplate;
+
+    public Optional<OtpEntry> find(String processInstanceId) {
+        return jdbcTemplate.query(FIND_SQL, ENTRY, processInstanceId).stream().findFirst();
+    }
+
+    //Locks the row until the surrounding transaction ends
+    public Optional<OtpEntry> findForUpdate(String processInstanceId) {
+        return jdbcTemplate.query(FIND_FOR_UPDATE_SQL, ENTRY, processInstanceId).stream().findFirst();
+    }
+
+    public void insert(String processInstanceId, OtpEntry entry) {
+        jdbcTemplate.update(INSERT_SQL, values(processInstanceId, entry));
+    }
+
+    public void update(String processInstanceId, OtpEntry entry) {
+        jdbcTemplate.update(UPDATE_SQL, values(processInstanceId, entry));
+    }
+
+    public void delete(String processInstanceId) {
+        jdbcTemplate.update(DELETE_SQL, processInstanceId);
+    }
+
+    public int deleteExpired(long now) {
+        return jdbcTemplate.update(DELETE_EXPIRED_SQL, now);
+    }
+
+    private static Object[] values(String processInstanceId, OtpEntry entry) {
+        return new Object[]{entry.getCodeHash(), entry.getCodeExpiresAt(), entry.getSentCount(),
+                entry.getFailedCount(), entry.getExpiresAt(), processInstanceId};
+    }
+}
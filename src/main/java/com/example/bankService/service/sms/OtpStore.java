@@ -0,0 +1,124 @@
+package com.example.bankService.service.sms;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Clock;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+//Verification code state of the SmsVerification instances: hash and expiry of the last code, how many were sent
+//and how many validations failed. Kept in BANK_OTP instead of the process variables, so a resend or a wrong code
+//writes one row and no variable or history row. The row is written in the engine transaction of the delegate: a
+//rolled back task leaves the counts as they were, and a restart or another node sees the same counts.
+//issue and attempt lock the row first, so two validations of the same instance can not both pass the attempt limit.
+@Slf4j
+@Service
+public class OtpStore {
+
+    public enum Outcome {
+        VALID, INVALID, LIMIT_EXCEEDED, MISSING
+    }
+
+    private final OtpRepository repository;
+    private final SmsProperties.Otp properties;
+    private final Clock clock;
+    private final ScheduledExecutorService cleanup;
+
+    @Autowired
+    public OtpStore(OtpRepository repository, SmsProperties properties) {
+        this(repository, properties, Clock.systemUTC());
+    }
+
+    OtpStore(OtpRepository repository, SmsProperties properties, Clock clock) {
+        this.repository = repository;
+        this.properties = properties.getOtp();
+        this.clock = clock;
+        this.cleanup = Executors.newSingleThreadScheduledExecutor(runnable -> new Thread(runnable, "bank-otp-cleanup"));
+
+        var interval = this.properties.getCleanupInterval().toMillis();
+        cleanup.scheduleWithFixedDelay(this::cleanupSafely, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    //Replaces the code of the instance, the failed count is kept until the entry expires
+    @Transactional
+    public OtpEntry issue(String processInstanceId, String codeHash, long codeExpiresAt) {
+        var now = clock.millis();
+        var current = repository.findForUpdate(processInstanceId);
+        var alive = current.filter(entry -> !entry.isExpired(now));
+
+        var entry = new OtpEntry(codeHash, codeExpiresAt,
+                alive.map(OtpEntry::getSentCount).orElse(0) + 1,
+                alive.map(OtpEntry::getFailedCount).orElse(0),
+                now + properties.getTtl().toMillis());
+        if (current.isPresent()) {
+            repository.update(processInstanceId, entry);
+        } else {
+            repository.insert(processInstanceId, entry);
+        }
+        return entry;
+    }
+
+    public boolean isIssued(String processInstanceId) {
+        return find(processInstanceId).isPresent();
+    }
+
+    public Optional<OtpEntry> find(String processInstanceId) {
+        var now = clock.millis();
+        return repository.find(processInstanceId)
+                .filter(entry -> !entry.isExpired(now));
+    }
+
+    //Checks a code against the entry and counts the failure in one step. The entry is deleted once the code
+    //matched or the attempts are used up
+    @Transactional
+    public Outcome attempt(String processInstanceId, Predicate<OtpEntry> matches) {
+        var now = clock.millis();
+        var current = repository.findForUpdate(processInstanceId).orElse(null);
+
+        if (current == null || current.isExpired(now)) {
+            if (current != null) {
+                repository.delete(processInstanceId);
+            }
+            return Outcome.MISSING;
+        }
+        if (matches.test(current)) {
+            repository.delete(processInstanceId);
+            return Outcome.VALID;
+        }
+        var failedCount = current.getFailedCount() + 1;
+        if (failedCount >= properties.getMaxAttempts()) {
+            repository.delete(processInstanceId);
+            return Outcome.LIMIT_EXCEEDED;
+        }
+        repository.update(processInstanceId, current.withFailedCount(failedCount));
+        return Outcome.INVALID;
+    }
+
+    //Deletes the expired entries, returns the number of rows deleted
+    int cleanup() {
+        return repository.deleteExpired(clock.millis());
+    }
+
+    private void cleanupSafely() {
+        try {
+            cleanup();
+        } catch (RuntimeException e) {
+            log.error("Otp store cleanup has failed", e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        cleanup.shutdown();
+        if (!cleanup.awaitTermination(10, TimeUnit.SECONDS)) {
+            cleanup.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package com.example.bankService.service.sms;
+
+public class SmsDeliveryException extends RuntimeException {
+
+    public SmsDeliveryException(String message) {
+        super(message);
+    }
+}
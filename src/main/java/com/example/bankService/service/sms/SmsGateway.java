@@ -0,0 +1,9 @@
+package com.example.bankService.service.sms;
+
+import java.util.List;
+
+//SMS provider. A batch is sent as a whole, an exception means none of it was accepted and the batch is retried
+public interface SmsGateway {
+
+    void send(List<SmsMessage> batch);
+}
@@ -0,0 +1,12 @@
+package com.example.bankService.service.sms;
+
+import lombok.Value;
+
+@Value
+public class SmsMessage {
+
+    String phoneNumber;
+    String text;
+    //process instance the message belongs to, for tracing
+    String reference;
+}
@@ -0,0 +1,207 @@
+package com.example.bankService.service.sms;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.camunda.bpm.engine.impl.cfg.TransactionState;
+import org.camunda.bpm.engine.impl.context.Context;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+//Sms leave the engine only after the transaction that produced them has committed: delegates enqueue, the message
+//is put on the queue by a commit listener and a single sender thread hands batches to the gateway, a full batch as
+//soon as it is complete and the rest every flush interval.
+//A rolled back transaction sends nothing, and a slow or failing provider never holds an engine thread or a DB lock.
+@Slf4j
+@Service
+public class SmsOutbox {
+
+    private final SmsGateway gateway;
+    private final SmsProperties properties;
+    private final BlockingQueue<SmsMessage> queue;
+    private final ScheduledExecutorService sender;
+    private final AtomicBoolean fullBatchFlushScheduled = new AtomicBoolean();
+
+    private final LongAdder enqueued = new LongAdder();
+    private final LongAdder sent = new LongAdder();
+    private final LongAdder retried = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder batches = new LongAdder();
+    private final LongAdder batchNanos = new LongAdder();
+
+    public SmsOutbox(SmsGateway gateway, SmsProperties properties) {
+        this.gateway = gateway;
+        this.properties = properties;
+        this.queue = new ArrayBlockingQueue<>(properties.getQueueCapacity());
+        this.sender = Executors.newSingleThreadScheduledExecutor(runnable -> new Thread(runnable, "bank-sms-outbox"));
+
+        var interval = properties.getFlushInterval().toMillis();
+        sender.scheduleWithFixedDelay(this::flushSafely, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    public void enqueue(SmsMessage message) {
+        var commandContext = Context.getCommandContext();
+        if (commandContext == null) {
+            offer(message);
+            return;
+        }
+        commandContext.getTransactionContext()
+                .addTransactionListener(TransactionState.COMMITTED, committed -> offer(message));
+    }
+
+    private void offer(SmsMessage message) {
+        if (queue.offer(message)) {
+            enqueued.increment();
+            if (queue.size() >= properties.getBatchSize()) {
+                scheduleFullBatchFlush();
+            }
+        } else {
+            dropped.increment();
+            log.error(String.format("Sms outbox is full, sms for %s is dropped", message.getReference()));
+        }
+    }
+
+    //At most one pending at a time, however many messages complete a batch before it runs
+    private void scheduleFullBatchFlush() {
+        if (!fullBatchFlushScheduled.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            sender.execute(this::flushFullBatches);
+        } catch (RejectedExecutionException e) {
+            //shutting down, the last flush sends what is queued
+            fullBatchFlushScheduled.set(false);
+        }
+    }
+
+    //Only complete batches, a partial one waits for the interval to fill up
+    private void flushFullBatches() {
+        fullBatchFlushScheduled.set(false);
+        try {
+            while (queue.size() >= properties.getBatchSize()) {
+                deliver(nextBatch(), 1);
+            }
+        } catch (RuntimeException e) {
+            log.error("Sms outbox flush has failed", e);
+        }
+    }
+
+    //Sends full batches until the queue is drained, returns the number of messages handed to the gateway
+    int flush() {
+        var flushed = 0;
+        List<SmsMessage> batch;
+        while (!(batch = nextBatch()).isEmpty()) {
+            deliver(batch, 1);
+            flushed += batch.size();
+        }
+        return flushed;
+    }
+
+    private List<SmsMessage> nextBatch() {
+        var batch = new ArrayList<SmsMessage>(properties.getBatchSize());
+        queue.drainTo(batch, properties.getBatchSize());
+        return batch;
+    }
+
+    private void flushSafely() {
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            log.error("Sms outbox flush has failed", e);
+        }
+    }
+
+    private void deliver(List<SmsMessage> batch, int attempt) {
+        var startedAt = System.nanoTime();
+        try {
+            gateway.send(batch);
+            sent.add(batch.size());
+        } catch (RuntimeException e) {
+            retry(batch, attempt, e);
+        } finally {
+            batchNanos.add(System.nanoTime() - startedAt);
+            batches.increment();
+        }
+    }
+
+    private void retry(List<SmsMessage> batch, int attempt, RuntimeException cause) {
+        var retry = properties.getRetry();
+        if (attempt >= retry.getMaxAttempts() || sender.isShutdown()) {
+            failed.add(batch.size());
+            log.error(String.format("Giving up on a batch of %s sms after %s attempts: %s", batch.size(), attempt, cause.getMessage()));
+            return;
+        }
+
+        var backoff = backoffMillis(retry, attempt);
+        retried.add(batch.size());
+        log.warn(String.format("Sending a batch of %s sms has failed (attempt %s), retrying in %s ms: %s",
+                batch.size(), attempt, backoff, cause.getMessage()));
+        sender.schedule(() -> deliver(batch, attempt + 1), backoff, TimeUnit.MILLISECONDS);
+    }
+
+    //Exponential with jitter, so batches refused together do not come back together
+    static long backoffMillis(SmsProperties.Retry retry, int attempt) {
+        var ceiling = Math.min(retry.getMaxBackoff().toMillis(),
+                retry.getInitialBackoff().toMillis() << Math.min(attempt - 1, 30));
+        return ceiling / 2 + ThreadLocalRandom.current().nextLong(ceiling / 2 + 1);
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        if (sender.isShutdown()) {
+            return;
+        }
+        //last flush of what was committed so far, pending retries still run until the timeout
+        sender.execute(this::flushSafely);
+        sender.shutdown();
+        if (!sender.awaitTermination(10, TimeUnit.SECONDS)) {
+            sender.shutdownNow();
+        }
+        if (!queue.isEmpty()) {
+            log.warn(String.format("%s committed sms were not sent before shutdown", queue.size()));
+        }
+    }
+
+    int queueSize() {
+        return queue.size();
+    }
+
+    long enqueued() {
+        return enqueued.sum();
+    }
+
+    long sent() {
+        return sent.sum();
+    }
+
+    long retried() {
+        return retried.sum();
+    }
+
+    long failed() {
+        return failed.sum();
+    }
+
+    long dropped() {
+        return dropped.sum();
+    }
+
+    long batches() {
+        return batches.sum();
+    }
+
+    double batchNanos() {
+        return batchNanos.sum();
+    }
+}
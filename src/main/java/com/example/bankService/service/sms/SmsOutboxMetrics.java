@@ -0,0 +1,43 @@
+package com.example.bankService.service.sms;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+@Component
+@RequiredArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class SmsOutboxMetrics implements MeterBinder {
+
+    SmsOutbox outbox;
+
+    @Override
+    public void bindTo(MeterRegistry meterRegistry) {
+        Gauge.builder("bank.sms.outbox.queue.size", outbox, SmsOutbox::queueSize)
+                .register(meterRegistry);
+
+        FunctionCounter.builder("bank.sms.outbox.enqueued", outbox, SmsOutbox::enqueued)
+                .register(meterRegistry);
+        FunctionCounter.builder("bank.sms.outbox.sent", outbox, SmsOutbox::sent)
+                .register(meterRegistry);
+        FunctionCounter.builder("bank.sms.outbox.retried", outbox, SmsOutbox::retried)
+                .register(meterRegistry);
+        FunctionCounter.builder("bank.sms.outbox.failed", outbox, SmsOutbox::failed)
+                .register(meterRegistry);
+        FunctionCounter.builder("bank.sms.outbox.dropped", outbox, SmsOutbox::dropped)
+                .register(meterRegistry);
+
+        //one gateway call, successful or not
+        FunctionTimer.builder("bank.sms.outbox.batch", outbox,
+                        SmsOutbox::batches, SmsOutbox::batchNanos, TimeUnit.NANOSECONDS)
+                .register(meterRegistry);
+    }
+}
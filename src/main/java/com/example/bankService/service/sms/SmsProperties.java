@@ -0,0 +1,56 @@
+package com.example.bankService.service.sms;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "bank.sms")
+public class SmsProperties {
+
+    //Messages handed to the gateway in one call
+    int batchSize = 50;
+    //How often a partial batch is sent, a full batch is sent as soon as it is complete
+    Duration flushInterval = Duration.ofMillis(200);
+    //Committed messages waiting for the gateway, further messages are dropped and counted
+    int queueCapacity = 10_000;
+    Retry retry = new Retry();
+    Code code = new Code();
+    Otp otp = new Otp();
+    Fake fake = new Fake();
+
+    @Data
+    public static class Retry {
+        int maxAttempts = 5;
+        //Doubled after every failed attempt up to maxBackoff
+        Duration initialBackoff = Duration.ofMillis(500);
+        Duration maxBackoff = Duration.ofSeconds(30);
+    }
+
+    @Data
+    public static class Code {
+        int digits = 6;
+        //A code is refused after this, the client gets a new one
+        Duration ttl = Duration.ofMinutes(5);
+        //Base64 HMAC key shared by all nodes, a random one per start when empty
+        String secret;
+    }
+
+    @Data
+    public static class Otp {
+        //Failed validations before the verification gives up, resends keep the count
+        int maxAttempts = 3;
+        //An entry is forgotten this long after its last code was sent
+        Duration ttl = Duration.ofMinutes(30);
+        //How often the expired entries are deleted from BANK_OTP
+        Duration cleanupInterval = Duration.ofMinutes(1);
+    }
+
+    @Data
+    public static class Fake {
+        //Round trip of the in-process provider and share of batches it refuses
+        Duration latency = Duration.ofMillis(50);
+        double failureRate = 0;
+    }
+}
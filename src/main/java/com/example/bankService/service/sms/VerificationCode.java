@@ -0,0 +1,12 @@
+package com.example.bankService.service.sms;
+
+import lombok.Value;
+
+@Value
+public class VerificationCode {
+
+    //only sent to the client, never stored
+    String code;
+    String hash;
+    long expiresAt;
+}
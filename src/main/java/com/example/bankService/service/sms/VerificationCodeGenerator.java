@@ -0,0 +1,84 @@
+package com.example.bankService.service.sms;
+
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.util.concurrent.locks.ReentrantLock;
+
+//Uniform numeric codes from DRBG SecureRandoms. Each stripe owns a generator and a buffer of random bytes that is
+//refilled in one call, so a code costs a few array reads and no allocation. Threads are spread over the stripes
+//by id instead of getting a generator each, which keeps the count bounded when requests run on virtual threads.
+//The stripes are guarded by ReentrantLocks, a virtual thread blocked on a monitor would pin its carrier thread.
+public final class VerificationCodeGenerator {
+
+    private static final int BUFFER_SIZE = 256;
+    private static final long RANGE = 1L << 32;
+
+    private final int bound;
+    //largest multiple of bound below 2^32, values above it would make the low codes more likely
+    private final long limit;
+    private final Stripe[] stripes;
+
+    public VerificationCodeGenerator(int digits) {
+        if (digits < 4 || digits > 9) {
+            throw new IllegalArgumentException(String.format("Verification codes have 4 to 9 digits, not %s", digits));
+        }
+        this.bound = (int) Math.pow(10, digits);
+        this.limit = RANGE - RANGE % bound;
+        this.stripes = new Stripe[stripeCount()];
+        for (var i = 0; i < stripes.length; i++) {
+            stripes[i] = new Stripe();
+        }
+    }
+
+    public int next() {
+        var stripe = stripes[stripeIndex(stripes.length)];
+        stripe.lock.lock();
+        try {
+            long value;
+            do {
+                value = stripe.nextUnsignedInt();
+            } while (value >= limit);
+            return (int) (value % bound);
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    //a power of two of at least twice the cores, shared with the HMAC stripes of VerificationCodeService
+    static int stripeCount() {
+        return Integer.highestOneBit(Runtime.getRuntime().availableProcessors() * 2 - 1) << 1;
+    }
+
+    static int stripeIndex(int stripeCount) {
+        return (int) Thread.currentThread().getId() & (stripeCount - 1);
+    }
+
+    private static final class Stripe {
+
+        private final ReentrantLock lock = new ReentrantLock();
+        private final SecureRandom random;
+        private final byte[] buffer = new byte[BUFFER_SIZE];
+        private int position = BUFFER_SIZE;
+
+        Stripe() {
+            try {
+                random = SecureRandom.getInstance("DRBG");
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException("DRBG SecureRandom is not available", e);
+            }
+        }
+
+        long nextUnsignedInt() {
+            if (position == BUFFER_SIZE) {
+                random.nextBytes(buffer);
+                position = 0;
+            }
+            long value = (buffer[position] & 0xFFL) << 24
+                    | (buffer[position + 1] & 0xFFL) << 16
+                    | (buffer[position + 2] & 0xFFL) << 8
+                    | (buffer[position + 3] & 0xFFL);
+            position += 4;
+            return value;
+        }
+    }
+}
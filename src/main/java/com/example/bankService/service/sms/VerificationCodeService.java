@@ -0,0 +1,108 @@
+package com.example.bankService.service.sms;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Clock;
+import java.util.Base64;
+import java.util.concurrent.locks.ReentrantLock;
+
+//Issues verification codes and checks them against the stored hash. The hash is an HMAC over the scope (the process
+//instance), the expiry and the code, so a six digit code can not be brute forced from the variable tables and
+//neither the scope nor the expiry can be swapped without invalidating it. Initialized Macs are striped like the code
+//generator, a hash does not look up the provider or set up the key again.
+@Slf4j
+@Service
+public class VerificationCodeService {
+
+    private static final String ALGORITHM = "HmacSHA256";
+
+    private final VerificationCodeGenerator generator;
+    private final SmsProperties.Code properties;
+    private final MacStripe[] macs;
+    private final Clock clock;
+
+    @Autowired
+    public VerificationCodeService(SmsProperties properties) {
+        this(properties, Clock.systemUTC());
+    }
+
+    VerificationCodeService(SmsProperties properties, Clock clock) {
+        this.properties = properties.getCode();
+        this.generator = new VerificationCodeGenerator(this.properties.getDigits());
+        var key = new SecretKeySpec(secret(this.properties), ALGORITHM);
+        this.macs = new MacStripe[VerificationCodeGenerator.stripeCount()];
+        for (var i = 0; i < macs.length; i++) {
+            macs[i] = new MacStripe(key);
+        }
+        this.clock = clock;
+    }
+
+    public VerificationCode issue(String scope) {
+        var code = format(generator.next());
+        var expiresAt = clock.millis() + properties.getTtl().toMillis();
+        return new VerificationCode(code, hash(scope, expiresAt, code), expiresAt);
+    }
+
+    public boolean verify(String scope, String candidate, String hash, Long expiresAt) {
+        if (candidate == null || hash == null || expiresAt == null || clock.millis() > expiresAt) {
+            return false;
+        }
+        return MessageDigest.isEqual(
+                hash(scope, expiresAt, candidate).getBytes(StandardCharsets.US_ASCII),
+                hash.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    //number form fields drop the leading zeros
+    public String format(long code) {
+        var digits = properties.getDigits();
+        var text = Long.toString(code);
+        return text.length() >= digits ? text : "0".repeat(digits - text.length()) + text;
+    }
+
+    private String hash(String scope, long expiresAt, String code) {
+        var input = (scope + '|' + expiresAt + '|' + code).getBytes(StandardCharsets.UTF_8);
+        var stripe = macs[VerificationCodeGenerator.stripeIndex(macs.length)];
+        byte[] digest;
+        stripe.lock.lock();
+        try {
+            //doFinal leaves the Mac reset with its key, ready for the next hash
+            digest = stripe.mac.doFinal(input);
+        } finally {
+            stripe.lock.unlock();
+        }
+        return Base64.getEncoder().encodeToString(digest);
+    }
+
+    private static final class MacStripe {
+
+        private final ReentrantLock lock = new ReentrantLock();
+        private final Mac mac;
+
+        MacStripe(SecretKeySpec key) {
+            try {
+                mac = Mac.getInstance(ALGORITHM);
+                mac.init(key);
+            } catch (GeneralSecurityException e) {
+                throw new IllegalStateException("Can not set up the verification code hash", e);
+            }
+        }
+    }
+
+    private static byte[] secret(SmsProperties.Code properties) {
+        if (properties.getSecret() != null && !properties.getSecret().isBlank()) {
+            return Base64.getDecoder().decode(properties.getSecret());
+        }
+        log.warn("bank.sms.code.secret is not set, codes issued before a restart or by another node will not verify");
+        var secret = new byte[32];
+        new SecureRandom().nextBytes(secret);
+        return secret;
+    }
+}
@@ -0,0 +1,136 @@
+package com.example.bankService.service.start;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+//Fire-and-forget starts: requests wait on a bounded queue and are started by a small dedicated pool,
+//so Tomcat workers return right away and a burst beyond the queue is refused instead of piling up
+@Slf4j
+@Service
+public class AsyncProcessStarter {
+
+    private final ProcessStartService processStartService;
+    private final ThreadPoolExecutor executor;
+    private final Cache<String, StartTicket> tickets;
+
+    private final LongAdder accepted = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder started = new LongAdder();
+    private final LongAdder queueWaitNanos = new LongAdder();
+    private final LongAdder startNanos = new LongAdder();
+
+    public AsyncProcessStarter(ProcessStartService processStartService, ProcessStartProperties properties,
+                               Environment environment) {
+        var async = properties.getAsync();
+
+        this.processStartService = processStartService;
+        this.executor = new ThreadPoolExecutor(async.getThreads(), async.getThreads(), 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(async.getQueueCapacity()),
+                threadFactory(environment),
+                new ThreadPoolExecutor.AbortPolicy());
+        this.tickets = Caffeine.newBuilder()
+                .maximumSize(async.getTrackingMaximumSize())
+                .expireAfterWrite(async.getTrackingTtl())
+                .build();
+    }
+
+    //Empty when the queue is full
+    public Optional<StartTicket> submit(String businessKey) {
+        var ticket = new StartTicket(UUID.randomUUID().toString(), StartResult.queued(businessKey));
+        var acceptedAt = System.nanoTime();
+
+        tickets.put(ticket.getTrackingId(), ticket);
+        try {
+            executor.execute(() -> start(ticket, acceptedAt));
+        } catch (RejectedExecutionException e) {
+            tickets.invalidate(ticket.getTrackingId());
+            rejected.increment();
+            return Optional.empty();
+        }
+        accepted.increment();
+
+        return Optional.of(ticket);
+    }
+
+    public Optional<StartTicket> find(String trackingId) {
+        return Optional.ofNullable(tickets.getIfPresent(trackingId));
+    }
+
+    private void start(StartTicket ticket, long acceptedAt) {
+        var startedAt = System.nanoTime();
+        queueWaitNanos.add(startedAt - acceptedAt);
+
+        var businessKey = ticket.getResult().getBusinessKey();
+        try {
+            var processInstanceId = processStartService.start(businessKey);
+            tickets.put(ticket.getTrackingId(), ticket.with(StartResult.started(businessKey, processInstanceId)));
+        } catch (RuntimeException e) {
+            log.warn(String.format("Async start of banking process with business key: %s has failed: %s", businessKey, e.getMessage()));
+            tickets.put(ticket.getTrackingId(), ticket.with(StartResult.failed(businessKey, e)));
+        } finally {
+            startNanos.add(System.nanoTime() - startedAt);
+            started.increment();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(10, TimeUnit.SECONDS)) {
+            log.warn(String.format("%s queued process starts were dropped on shutdown", executor.shutdownNow().size()));
+        }
+    }
+
+    int queueSize() {
+        return executor.getQueue().size();
+    }
+
+    int queueRemainingCapacity() {
+        return executor.getQueue().remainingCapacity();
+    }
+
+    long accepted() {
+        return accepted.sum();
+    }
+
+    long rejected() {
+        return rejected.sum();
+    }
+
+    long started() {
+        return started.sum();
+    }
+
+    double queueWaitNanos() {
+        return queueWaitNanos.sum();
+    }
+
+    double startNanos() {
+        return startNanos.sum();
+    }
+
+    //The pool size still bounds concurrent starts, on virtual threads a start blocked on I/O just costs less
+    private static ThreadFactory threadFactory(Environment environment) {
+        if (Threading.VIRTUAL.isActive(environment)) {
+            return new VirtualThreadTaskExecutor("bank-async-start-").getVirtualThreadFactory();
+        }
+        var threadNumber = new AtomicInteger();
+        return runnable -> new Thread(runnable, "bank-async-start-" + threadNumber.incrementAndGet());
+    }
+}
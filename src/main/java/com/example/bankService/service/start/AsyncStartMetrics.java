@@ -0,0 +1,42 @@
+package com.example.bankService.service.start;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+@Component
+@RequiredArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class AsyncStartMetrics implements MeterBinder {
+
+    AsyncProcessStarter starter;
+
+    @Override
+    public void bindTo(MeterRegistry meterRegistry) {
+        Gauge.builder("bank.start.async.queue.size", starter, AsyncProcessStarter::queueSize)
+                .register(meterRegistry);
+        Gauge.builder("bank.start.async.queue.remaining", starter, AsyncProcessStarter::queueRemainingCapacity)
+                .register(meterRegistry);
+
+        FunctionCounter.builder("bank.start.async.accepted", starter, AsyncProcessStarter::accepted)
+                .register(meterRegistry);
+        FunctionCounter.builder("bank.start.async.rejected", starter, AsyncProcessStarter::rejected)
+                .register(meterRegistry);
+
+        //time between the 202 and a worker picking the request up, and the start itself
+        FunctionTimer.builder("bank.start.async.queue.wait", starter,
+                        AsyncProcessStarter::started, AsyncProcessStarter::queueWaitNanos, TimeUnit.NANOSECONDS)
+                .register(meterRegistry);
+        FunctionTimer.builder("bank.start.async.start", starter,
+                        AsyncProcessStarter::started, AsyncProcessStarter::startNanos, TimeUnit.NANOSECONDS)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,33 @@
+package com.example.bankService.service.start;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "bank.start")
+public class ProcessStartProperties {
+
+    Batch batch = new Batch();
+    Async async = new Async();
+
+    @Data
+    public static class Batch {
+        //Process instances started in one engine transaction
+        int chunkSize = 100;
+        //Largest number of business keys accepted by one batch request
+        int maxSize = 10_000;
+    }
+
+    @Data
+    public static class Async {
+        //Threads starting queued process instances
+        int threads = 4;
+        //Requests waiting for a thread, a full queue answers 429
+        int queueCapacity = 1_000;
+        //How long a tracking id can be looked up after it was accepted
+        Duration trackingTtl = Duration.ofHours(1);
+        long trackingMaximumSize = 100_000;
+    }
+}
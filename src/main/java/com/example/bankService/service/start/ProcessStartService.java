@@ -0,0 +1,104 @@
+package com.example.bankService.service.start;
+
+import com.example.bankService.model.Client;
+import com.example.bankService.service.serialization.ModelVariables;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.camunda.bpm.engine.RuntimeService;
+import org.camunda.bpm.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import static com.example.bankService.util.Constants.MAIN_DEPOSIT_CREDIT_PROCESS;
+import static com.example.bankService.util.Constants.RIA;
+
+@Slf4j
+@Service
+public class ProcessStartService {
+
+    private final RuntimeService runtimeService;
+    private final ModelVariables modelVariables;
+    private final ProcessStartProperties properties;
+    private final TransactionTemplate transactionTemplate;
+    private final ProcessEngineConfigurationImpl engineConfiguration;
+
+    public ProcessStartService(RuntimeService runtimeService, ModelVariables modelVariables,
+                               ProcessStartProperties properties, PlatformTransactionManager transactionManager,
+                               ProcessEngineConfigurationImpl engineConfiguration) {
+        this.runtimeService = runtimeService;
+        this.modelVariables = modelVariables;
+        this.properties = properties;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.engineConfiguration = engineConfiguration;
+    }
+
+    public String start(String businessKey) {
+        return runtimeService.createProcessInstanceByKey(MAIN_DEPOSIT_CREDIT_PROCESS)
+                .businessKey(businessKey)
+                .setVariables(prepareVariables(RIA))
+                .execute()
+                .getId();
+    }
+
+    //Starts the keys chunk by chunk. Every chunk is one transaction and one engine command: the starts inside it reuse
+    //the command context, so the engine flushes the inserts of the whole chunk once, batched per table.
+    //A failed chunk is rolled back and retried key by key, so one bad key only fails itself.
+    //Results of a chunk are handed to the sink once the chunk is committed
+    public void startBatch(List<String> businessKeys, Consumer<StartResult> sink) {
+        var chunkSize = Math.max(1, properties.getBatch().getChunkSize());
+
+        for (var from = 0; from < businessKeys.size(); from += chunkSize) {
+            var chunk = businessKeys.subList(from, Math.min(from + chunkSize, businessKeys.size()));
+            startChunk(chunk).forEach(sink);
+        }
+    }
+
+    private List<StartResult> startChunk(List<String> chunk) {
+        var rejected = new ArrayList<StartResult>();
+        var valid = new ArrayList<String>(chunk.size());
+        for (var businessKey : chunk) {
+            if (StringUtils.isBlank(businessKey)) {
+                rejected.add(StartResult.rejected(businessKey, "Business key can not be empty or null"));
+            } else {
+                valid.add(businessKey);
+            }
+        }
+
+        var results = new ArrayList<StartResult>(chunk.size());
+        try {
+            results.addAll(transactionTemplate.execute(status -> engineConfiguration.getCommandExecutorTxRequired()
+                    .execute(commandContext -> valid.stream()
+                            .map(businessKey -> StartResult.started(businessKey, start(businessKey)))
+                            .toList())));
+        } catch (RuntimeException e) {
+            log.warn(String.format("Chunk of %s process starts failed, retrying one by one: %s", valid.size(), e.getMessage()));
+            valid.forEach(businessKey -> results.add(startAlone(businessKey)));
+        }
+        results.addAll(rejected);
+
+        return results;
+    }
+
+    private StartResult startAlone(String businessKey) {
+        try {
+            return StartResult.started(businessKey, transactionTemplate.execute(status -> start(businessKey)));
+        } catch (RuntimeException e) {
+            return StartResult.failed(businessKey, e);
+        }
+    }
+
+    private Map<String, Object> prepareVariables(Client client){
+
+        var variableMap = new HashMap<String, Object>();
+        variableMap.put("client", modelVariables.typed("client", client));
+
+        return variableMap;
+    }
+}
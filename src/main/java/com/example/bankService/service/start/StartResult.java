@@ -0,0 +1,30 @@
+package com.example.bankService.service.start;
+
+import lombok.Value;
+
+@Value
+public class StartResult {
+
+    public enum Status { QUEUED, STARTED, FAILED, REJECTED }
+
+    String businessKey;
+    Status status;
+    String processInstanceId;
+    String error;
+
+    public static StartResult queued(String businessKey) {
+        return new StartResult(businessKey, Status.QUEUED, null, null);
+    }
+
+    public static StartResult started(String businessKey, String processInstanceId) {
+        return new StartResult(businessKey, Status.STARTED, processInstanceId, null);
+    }
+
+    public static StartResult failed(String businessKey, Exception exception) {
+        return new StartResult(businessKey, Status.FAILED, null, exception.getMessage());
+    }
+
+    public static StartResult rejected(String businessKey, String reason) {
+        return new StartResult(businessKey, Status.REJECTED, null, reason);
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.bankService.service.start;
+
+import com.fasterxml.jackson.annotation.JsonUnwrapped;
+import lombok.Value;
+
+@Value
+public class StartTicket {
+
+    String trackingId;
+
+    @JsonUnwrapped
+    StartResult result;
+
+    StartTicket with(StartResult result) {
+        return new StartTicket(trackingId, result);
+    }
+}
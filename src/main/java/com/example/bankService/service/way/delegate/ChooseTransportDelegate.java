@@ -0,0 +1,30 @@
+package com.example.bankService.service.way.delegate;
+
+import com.example.bankService.service.client.ClientAccessor;
+import com.example.bankService.service.decision.DecisionEvaluationService;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import lombok.extern.slf4j.Slf4j;
+import org.camunda.bpm.engine.delegate.DelegateExecution;
+import org.camunda.bpm.engine.delegate.JavaDelegate;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component("chooseTransportDelegate")
+@RequiredArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class ChooseTransportDelegate implements JavaDelegate {
+
+    ClientAccessor clientAccessor;
+    DecisionEvaluationService decisionEvaluationService;
+
+    @Override
+    public void execute(DelegateExecution delegateExecution) throws Exception {
+        var moneyCount = clientAccessor.of(delegateExecution).getMoneyCount();
+        var transport = decisionEvaluationService.chooseTransport(moneyCount);
+        log.info(String.format("Client with %s in the wallet is going home by %s", moneyCount, transport));
+
+        delegateExecution.setVariable("transport", transport);
+    }
+}
@@ -1,6 +1,9 @@
 package com.example.bankService.service.way.delegate;
 
-import com.example.bankService.model.Client;
+import com.example.bankService.service.client.ClientAccessor;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
 import lombok.extern.slf4j.Slf4j;
 import org.camunda.bpm.engine.delegate.DelegateExecution;
 import org.camunda.bpm.engine.delegate.JavaDelegate;
@@ -10,13 +13,17 @@ import java.math.BigDecimal;
 
 @Slf4j
 @Component("taxiPaymentDelegate")
+@RequiredArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
 public class TaxiPaymentDelegate implements JavaDelegate {
 
+    ClientAccessor clientAccessor;
+
     @Override
     public void execute(DelegateExecution delegateExecution) throws Exception {
         log.info("the taxiPaymentDelegate has started.....");
 
-        var client = (Client) delegateExecution.getVariable("client");
+        var client = clientAccessor.of(delegateExecution).getClient();
         var taxiCost = (String) delegateExecution.getVariable("taxiCost");
 
         var moneyOnWallet = client.getWallet().getMoneyCount().subtract(new BigDecimal(taxiCost));
@@ -24,7 +31,7 @@ public class TaxiPaymentDelegate implements JavaDelegate {
 
         client.getWallet().setMoneyCount(moneyOnWallet);
 
-        delegateExecution.setVariable("client", client);
+        clientAccessor.save(delegateExecution, client);
 
     }
 }
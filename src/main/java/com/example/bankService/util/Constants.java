@@ -115,7 +115,7 @@ public class Constants {
     public static final String  SUDDEN_OPERATION_INTERRUPTION_ERROR = "SUDDEN_OPERATION_INTERRUPTION_ERROR";
     public static final String VERIFICATION_SMS_NOT_OBTAINED = "VERIFICATION_SMS_NOT_OBTAINED";
     public static final String LIMIT_OF_VERIFICATION_SMS_ATTEMPTS_EXCEEDED = "LIMIT_OF_VERIFICATION_SMS_ATTEMPTS_EXCEEDED";
-    public static final String NO_MORE_DEPOSITS_TO_OPEN = "NO_MORE_DEPOSITS_TO_OPEN";
+    public static final String NO_MORE_DEPOSITS_TO_OPEN = "NO_MORE_DEPOST_TO_OPEN";
     public static final String NOT_ENOUGH_MONEY = "NOT_ENOUGH_MONEY";
 
     private static final Deposit EARLY_SPRING = Deposit.builder()
@@ -155,8 +155,6 @@ public class Constants {
     public static final List<Client> POLICE_WANTED_LIST = List.of(RENDY);
     public static final List<Client> BANK_BLACK_LIST = List.of(RENDY);
 
-    public static final DepositContract blankDepositBLANK_DEPOSIT_CONTRACT = new DepositContract();
-
 
 
 }
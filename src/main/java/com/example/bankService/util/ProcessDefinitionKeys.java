@@ -0,0 +1,39 @@
+package com.example.bankService.util;
+
+import org.camunda.bpm.engine.impl.context.Context;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+//Process definition key of a definition id. Definition ids are key:version:uuid, only ids too long for that are a
+//bare uuid and need the deployment cache, which is reachable inside an engine command only. Those are remembered.
+public final class ProcessDefinitionKeys {
+
+    private static final Map<String, String> BARE_IDS = new ConcurrentHashMap<>();
+
+    private ProcessDefinitionKeys() {
+    }
+
+    //The id itself when it is a bare uuid looked up outside a command
+    public static String of(String definitionId) {
+        if (definitionId == null) {
+            return null;
+        }
+        var separator = definitionId.indexOf(':');
+        if (separator > 0) {
+            return definitionId.substring(0, separator);
+        }
+
+        var key = BARE_IDS.get(definitionId);
+        if (key != null) {
+            return key;
+        }
+        var configuration = Context.getProcessEngineConfiguration();
+        if (configuration == null) {
+            return definitionId;
+        }
+        key = configuration.getDeploymentCache().findDeployedProcessDefinitionById(definitionId).getKey();
+        BARE_IDS.put(definitionId, key);
+        return key;
+    }
+}
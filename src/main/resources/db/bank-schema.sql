@@ -0,0 +1,33 @@
+-- Bank service tables, kept next to the Camunda schema in the same datasource
+
+CREATE TABLE IF NOT EXISTS BANK_CLIENT (
+    ID              BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    PASSPORT_NUMBER VARCHAR(64)  NOT NULL,
+    NAME            VARCHAR(255) NOT NULL,
+    SURNAME         VARCHAR(255) NOT NULL,
+    BIRTH_DATE      DATE         NOT NULL,
+    CREATED_AT      TIMESTAMP    DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE UNIQUE INDEX IF NOT EXISTS BANK_CLIENT_IDENTITY_UIDX
+    ON BANK_CLIENT (PASSPORT_NUMBER, NAME, SURNAME, BIRTH_DATE);
+
+-- Verification code state per SmsVerification instance, written by OtpStore in the engine transaction.
+-- Times are epoch millis
+CREATE TABLE IF NOT EXISTS BANK_OTP (
+    PROCESS_INSTANCE_ID VARCHAR(64) NOT NULL PRIMARY KEY,
+    CODE_HASH           VARCHAR(64) NOT NULL,
+    CODE_EXPIRES_AT     BIGINT      NOT NULL,
+    SENT_COUNT          INT         NOT NULL,
+    FAILED_COUNT        INT         NOT NULL,
+    EXPIRES_AT          BIGINT      NOT NULL
+);
+
+-- Signals thrown by processes, written in the engine transaction and sent afterwards by SignalOutboxRelay
+CREATE TABLE IF NOT EXISTS BANK_SIGNAL_OUTBOX (
+    ID          BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    SIGNAL_NAME VARCHAR(255)  NOT NULL,
+    VARIABLES   VARCHAR(4000) NOT NULL,
+    ATTEMPTS    INT           DEFAULT 0 NOT NULL,
+    CREATED_AT  TIMESTAMP     DEFAULT CURRENT_TIMESTAMP
+);
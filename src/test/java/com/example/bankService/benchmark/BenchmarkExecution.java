@@ -0,0 +1,40 @@
+package com.example.bankService.benchmark;
+
+import org.camunda.bpm.engine.delegate.DelegateExecution;
+import org.camunda.bpm.engine.variable.Variables;
+import org.camunda.bpm.engine.variable.value.TypedValue;
+
+import java.lang.reflect.Proxy;
+import java.util.HashMap;
+import java.util.Map;
+
+//DelegateExecution over a plain map for benchmarking a delegate without the engine around it.
+//Only the variable and id accessors the delegates use are answered, anything else fails loudly.
+final class BenchmarkExecution {
+
+    private BenchmarkExecution() {
+    }
+
+    static DelegateExecution of(Map<String, Object> variables) {
+        var values = new HashMap<>(variables);
+        return (DelegateExecution) Proxy.newProxyInstance(BenchmarkExecution.class.getClassLoader(),
+                new Class<?>[]{DelegateExecution.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "getVariable" -> {
+                        var value = values.get((String) args[0]);
+                        yield value instanceof TypedValue typed ? typed.getValue() : value;
+                    }
+                    case "getVariableTyped" -> {
+                        var value = values.get((String) args[0]);
+                        yield value == null || value instanceof TypedValue ? value : Variables.untypedValue(value);
+                    }
+                    case "setVariable" -> values.put((String) args[0], args[1]);
+                    case "hasVariable" -> values.containsKey((String) args[0]);
+                    case "getProcessInstanceId", "getId" -> "benchmark";
+                    case "toString" -> "BenchmarkExecution" + values.keySet();
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "equals" -> proxy == args[0];
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+    }
+}
@@ -0,0 +1,96 @@
+package com.example.bankService.benchmark;
+
+import com.example.bankService.Application;
+import com.example.bankService.service.correlation.ProcessCorrelator;
+import org.camunda.bpm.engine.RepositoryService;
+import org.camunda.bpm.engine.RuntimeService;
+import org.camunda.bpm.model.bpmn.Bpmn;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.ThreadParams;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+//Latency of correlating a reply message to one of thousands of waiting instances, from several threads at once:
+//the business key correlation the delegates used before and the process instance id path of ProcessCorrelator.
+//The instances wait in a receive task loop, so every correlation finds one.
+//Runs the whole application on an in-memory H2.
+//Run with: mvn -Pbenchmark test -DskipTests -Dbenchmark.includes=CorrelationBenchmark
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Threads(4)
+@Fork(1)
+public class CorrelationBenchmark {
+
+    private static final String PROCESS = "CorrelationBenchmarkProcess";
+    private static final String MESSAGE = "correlation_benchmark_reply";
+
+    @Param({"5000"})
+    int waitingInstances;
+
+    ConfigurableApplicationContext context;
+    RuntimeService runtimeService;
+    ProcessCorrelator processCorrelator;
+    String[] businessKeys;
+    String[] processInstanceIds;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(Application.class)
+                .run("--server.port=0",
+                        "--spring.datasource.url=jdbc:h2:mem:correlation-benchmark;DB_CLOSE_DELAY=-1",
+                        "--camunda.bpm.job-execution.enabled=false",
+                        "--logging.level.root=warn",
+                        "--bank.sms.provider=fake");
+        runtimeService = context.getBean(RuntimeService.class);
+        processCorrelator = context.getBean(ProcessCorrelator.class);
+
+        context.getBean(RepositoryService.class).createDeployment()
+                .addModelInstance(PROCESS + ".bpmn", Bpmn.createExecutableProcess(PROCESS)
+                        .camundaHistoryTimeToLive(1)
+                        .startEvent()
+                        .exclusiveGateway("join")
+                        .receiveTask("wait").message(MESSAGE)
+                        .connectTo("join")
+                        .done())
+                .deploy();
+
+        businessKeys = new String[waitingInstances];
+        processInstanceIds = new String[waitingInstances];
+        for (var i = 0; i < waitingInstances; i++) {
+            businessKeys[i] = "correlation-" + i;
+            processInstanceIds[i] = runtimeService.startProcessInstanceByKey(PROCESS, businessKeys[i]).getId();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Object byBusinessKey(ThreadParams threadParams) {
+        var index = pick(threadParams);
+        return runtimeService.createMessageCorrelation(MESSAGE)
+                .processInstanceBusinessKey(businessKeys[index])
+                .correlateWithResult();
+    }
+
+    @Benchmark
+    public Object byProcessInstanceId(ThreadParams threadParams) {
+        var index = pick(threadParams);
+        return processCorrelator.correlate(MESSAGE, businessKeys[index], processInstanceIds[index]);
+    }
+
+    //every thread correlates its own slice of the instances, the engine does not expect two correlations to signal
+    //the same receive task at once
+    private int pick(ThreadParams threadParams) {
+        var perThread = waitingInstances / threadParams.getThreadCount();
+        return threadParams.getThreadIndex() * perThread + ThreadLocalRandom.current().nextInt(perThread);
+    }
+}
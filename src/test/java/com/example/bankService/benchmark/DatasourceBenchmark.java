@@ -0,0 +1,78 @@
+package com.example.bankService.benchmark;
+
+import com.example.bankService.Application;
+import com.example.bankService.service.start.ProcessStartService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.util.FileSystemUtils;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+//Process instances started per second (Throughput) and the latency percentiles of one start (SampleTime, p99 among
+//them) from several threads, on each datasource profile: the H2 file fallback, the in-memory loadtest profile and
+//the postgres profile. Every start is what POST /bank/start/{businessKey} does.
+//The postgres runs need a database, BANK_DB_URL, BANK_DB_USER and BANK_DB_PASSWORD point at it, without
+//BANK_DB_URL they fail right away and the H2 ones still run.
+//Run with: mvn -Pbenchmark test -DskipTests -Dbenchmark.includes=DatasourceBenchmark
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Threads(4)
+@Fork(1)
+public class DatasourceBenchmark {
+
+    private static final Path H2_FILE_DIRECTORY = Path.of("target", "datasource-benchmark");
+
+    @Param({"h2-file", "loadtest", "postgres"})
+    String profile;
+
+    ConfigurableApplicationContext context;
+    ProcessStartService processStartService;
+    String prefix;
+    AtomicLong sequence = new AtomicLong();
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        var args = new ArrayList<String>();
+        args.add("--server.port=0");
+        args.add("--camunda.bpm.job-execution.enabled=false");
+        args.add("--logging.level.root=warn");
+        args.add("--bank.sms.provider=fake");
+
+        switch (profile) {
+            case "h2-file" -> {
+                FileSystemUtils.deleteRecursively(H2_FILE_DIRECTORY);
+                args.add("--spring.datasource.url=jdbc:h2:file:./" + H2_FILE_DIRECTORY.resolve("bank") + ";QUERY_CACHE_SIZE=64");
+            }
+            case "postgres" -> {
+                if (System.getenv("BANK_DB_URL") == null) {
+                    throw new IllegalStateException("BANK_DB_URL is not set, there is no database for the postgres profile");
+                }
+                args.add("--spring.profiles.active=postgres");
+            }
+            default -> args.add("--spring.profiles.active=" + profile);
+        }
+
+        context = new SpringApplicationBuilder(Application.class).run(args.toArray(String[]::new));
+        processStartService = context.getBean(ProcessStartService.class);
+        prefix = UUID.randomUUID().toString();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public String start() {
+        return processStartService.start(prefix + "-" + sequence.incrementAndGet());
+    }
+}
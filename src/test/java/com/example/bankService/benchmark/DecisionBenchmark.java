@@ -0,0 +1,87 @@
+package com.example.bankService.benchmark;
+
+import com.example.bankService.model.Client;
+import com.example.bankService.model.Wallet;
+import com.example.bankService.service.decision.DecisionEvaluationService;
+import org.camunda.bpm.dmn.engine.DmnDecision;
+import org.camunda.bpm.dmn.engine.DmnEngine;
+import org.camunda.bpm.dmn.engine.DmnEngineConfiguration;
+import org.camunda.bpm.model.dmn.Dmn;
+import org.camunda.bpm.model.dmn.instance.InputExpression;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static com.example.bankService.service.decision.DecisionEvaluationService.CHOOSE_TRANSPORT_DECISION;
+import static com.example.bankService.service.decision.DecisionEvaluationService.CHOOSE_TRANSPORT_RESOURCE;
+
+//Evaluations per second of the ChooseTransportToHome table: with the JavaScript input expression it had before,
+//with the FEEL one it has now, and through DecisionEvaluationService.
+//The wallets hold 0 to 50, a whole amount each.
+//Run with: mvn -Pbenchmark test -DskipTests -Dbenchmark.includes=DecisionBenchmark
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DecisionBenchmark {
+
+    private static final String JAVASCRIPT_INPUT = "Number(client.wallet.moneyCount)";
+
+    DmnEngine dmnEngine;
+    DmnDecision javascriptDecision;
+    DmnDecision feelDecision;
+    DecisionEvaluationService decisionEvaluationService;
+    Client[] clients;
+    int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        dmnEngine = DmnEngineConfiguration.createDefaultDmnEngineConfiguration().buildEngine();
+        feelDecision = dmnEngine.parseDecision(CHOOSE_TRANSPORT_DECISION, resource());
+
+        var javascriptModel = Dmn.readModelFromStream(resource());
+        for (var inputExpression : javascriptModel.getModelElementsByType(InputExpression.class)) {
+            inputExpression.setExpressionLanguage("javascript");
+            inputExpression.getText().setTextContent(JAVASCRIPT_INPUT);
+        }
+        javascriptDecision = dmnEngine.parseDecision(CHOOSE_TRANSPORT_DECISION, javascriptModel);
+
+        decisionEvaluationService = new DecisionEvaluationService();
+
+        clients = new Client[51];
+        for (var i = 0; i < clients.length; i++) {
+            clients[i] = Client.builder()
+                    .wallet(Wallet.builder().moneyCount(BigDecimal.valueOf(i)).build())
+                    .build();
+        }
+    }
+
+    @Benchmark
+    public Object javascriptTable() {
+        return dmnEngine.evaluateDecisionTable(javascriptDecision, Map.of("client", nextClient())).getSingleEntry();
+    }
+
+    @Benchmark
+    public Object feelTable() {
+        return dmnEngine.evaluateDecisionTable(feelDecision, Map.of("client", nextClient())).getSingleEntry();
+    }
+
+    @Benchmark
+    public String service() {
+        return decisionEvaluationService.chooseTransport(nextClient().getWallet().getMoneyCount());
+    }
+
+    private Client nextClient() {
+        next = next == clients.length - 1 ? 0 : next + 1;
+        return clients[next];
+    }
+
+    private static InputStream resource() {
+        return DecisionBenchmark.class.getClassLoader().getResourceAsStream(CHOOSE_TRANSPORT_RESOURCE);
+    }
+}
@@ -0,0 +1,100 @@
+package com.example.bankService.benchmark;
+
+import ch.qos.logback.classic.Logger;
+import com.example.bankService.model.Client;
+import com.example.bankService.model.DepositContract;
+import com.example.bankService.service.client.ClientAccessor;
+import com.example.bankService.service.deposit.catalog.DepositCatalog;
+import com.example.bankService.service.deposit.delegate.bank.DocumentPreparationDelegate;
+import com.example.bankService.service.deposit.delegate.bank.MoneyCountVerificationDelegate;
+import com.example.bankService.service.serialization.ModelVariables;
+import com.example.bankService.service.serialization.SerializationProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.camunda.bpm.engine.delegate.BpmnError;
+import org.camunda.bpm.engine.delegate.DelegateExecution;
+import org.camunda.bpm.engine.variable.Variables;
+import org.openjdk.jmh.annotations.*;
+import org.slf4j.LoggerFactory;
+
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static com.example.bankService.util.Constants.RIA;
+
+//The two deposit delegates between contract signing and replenishment, without the engine around them:
+//DocumentPreparationDelegate (catalog lookup, client read from its JSON form, fillDeposit) and
+//MoneyCountVerificationDelegate for a sufficient and an insufficient payment (the BpmnError path).
+//Variables come from a map, see BenchmarkExecution, the delegates' info logging is switched off.
+//Run with: mvn -Pbenchmark test -DskipTests -Dbenchmark.includes=DelegateBenchmark (add -prof gc for allocations)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DelegateBenchmark {
+
+    DocumentPreparationDelegate documentPreparationDelegate;
+    MoneyCountVerificationDelegate moneyCountVerificationDelegate;
+    Map<String, Object> preparationVariables;
+    Map<String, Object> enoughMoneyVariables;
+    Map<String, Object> notEnoughMoneyVariables;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        ((Logger) LoggerFactory.getLogger("com.example.bankService")).setLevel(ch.qos.logback.classic.Level.WARN);
+
+        var objectMapper = new ObjectMapper().findAndRegisterModules();
+        var modelVariables = new ModelVariables(new SerializationProperties());
+        var depositCatalog = new DepositCatalog();
+        documentPreparationDelegate = new DocumentPreparationDelegate(depositCatalog, modelVariables,
+                new ClientAccessor(objectMapper, modelVariables));
+        moneyCountVerificationDelegate = new MoneyCountVerificationDelegate();
+
+        //the client as the engine hands it over, still in its serialized JSON form
+        var client = Variables.serializedObjectValue(objectMapper.writeValueAsString(RIA))
+                .serializationDataFormat(Variables.SerializationDataFormats.JSON)
+                .objectTypeName(Client.class.getName())
+                .create();
+        var deposit = depositCatalog.current().deposits().get(0);
+        preparationVariables = Map.of(
+                ClientAccessor.CLIENT, client,
+                "depositName", deposit.getName(),
+                "depositCatalogVersion", depositCatalog.current().version());
+
+        var contract = new DepositContract()
+                .setName(deposit.getName())
+                .setMinimalSum(deposit.getMinimalSum())
+                .setOpenDate(OffsetDateTime.now());
+        enoughMoneyVariables = Map.of("preparedDepositContract", contract,
+                "paidMoney", deposit.getMinimalSum().add(BigDecimal.ONE).intValue());
+        notEnoughMoneyVariables = Map.of("preparedDepositContract", contract,
+                "paidMoney", deposit.getMinimalSum().subtract(BigDecimal.ONE).intValue());
+    }
+
+    @Benchmark
+    public DelegateExecution prepareDocuments() throws Exception {
+        var execution = BenchmarkExecution.of(preparationVariables);
+        documentPreparationDelegate.execute(execution);
+        return execution;
+    }
+
+    @Benchmark
+    public DelegateExecution verifyEnoughMoney() throws Exception {
+        var execution = BenchmarkExecution.of(enoughMoneyVariables);
+        moneyCountVerificationDelegate.execute(execution);
+        return execution;
+    }
+
+    @Benchmark
+    public Object verifyNotEnoughMoney() throws Exception {
+        try {
+            moneyCountVerificationDelegate.execute(BenchmarkExecution.of(notEnoughMoneyVariables));
+            throw new IllegalStateException("The payment below the minimal sum has been accepted");
+        } catch (BpmnError e) {
+            return e;
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.example.bankService.benchmark;
+
+import com.example.bankService.Application;
+import org.camunda.bpm.engine.ManagementService;
+import org.camunda.bpm.engine.RuntimeService;
+import org.camunda.bpm.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.camunda.bpm.engine.impl.jobexecutor.JobExecutor;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+//Jobs executed per second while thousands of deposit opening instances wait at the async Activity_1w8i6n4.
+//The instances are parked with the job executor stopped, then it is started and the time until no job is left
+//is measured, one drain per iteration. Runs the whole application on an in-memory H2.
+//Run with: mvn -Pbenchmark test -DskipTests -Dbenchmark.includes=JobExecutorBenchmark
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@OperationsPerInvocation(JobExecutorBenchmark.JOBS)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 3, time = 1)
+@Fork(1)
+public class JobExecutorBenchmark {
+
+    static final int JOBS = 1_000;
+
+    private static final String ASYNC_ACTIVITY = "Activity_1w8i6n4";
+
+    //Camunda's defaults are 3 jobs per acquisition and a pool of 3 threads with a queue of 3
+    @Param({"3", "10"})
+    int maxJobsPerAcquisition;
+
+    @Param({"false", "true"})
+    boolean exclusiveOverProcessHierarchies;
+
+    ConfigurableApplicationContext context;
+    RuntimeService runtimeService;
+    ManagementService managementService;
+    JobExecutor jobExecutor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(Application.class)
+                .run("--server.port=0",
+                        "--spring.datasource.url=jdbc:h2:mem:job-benchmark;DB_CLOSE_DELAY=-1",
+                        "--logging.level.root=warn",
+                        "--bank.sms.provider=fake",
+                        "--camunda.bpm.job-execution.max-jobs-per-acquisition=" + maxJobsPerAcquisition,
+                        "--bank.job-executor.exclusive-over-process-hierarchies=" + exclusiveOverProcessHierarchies);
+        runtimeService = context.getBean(RuntimeService.class);
+        managementService = context.getBean(ManagementService.class);
+        jobExecutor = context.getBean(ProcessEngineConfigurationImpl.class).getJobExecutor();
+        jobExecutor.shutdown();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Setup(Level.Invocation)
+    public void parkInstances() {
+        var prefix = UUID.randomUUID().toString();
+        for (var i = 0; i < JOBS; i++) {
+            runtimeService.createProcessInstanceByKey("DepositOpening")
+                    .businessKey(prefix + "-" + i)
+                    .startBeforeActivity(ASYNC_ACTIVITY)
+                    .execute();
+        }
+    }
+
+    @Benchmark
+    public long drain() throws InterruptedException {
+        jobExecutor.start();
+        try {
+            long remaining;
+            while ((remaining = managementService.createJobQuery().executable().count()) > 0) {
+                Thread.sleep(5);
+            }
+            return remaining;
+        } finally {
+            jobExecutor.shutdown();
+        }
+    }
+}
@@ -0,0 +1,295 @@
+package com.example.bankService.benchmark;
+
+import com.example.bankService.Application;
+import com.example.bankService.model.Client;
+import com.example.bankService.service.serialization.ModelVariables;
+import com.example.bankService.service.sms.SmsGateway;
+import com.example.bankService.service.sms.SmsMessage;
+import org.camunda.bpm.engine.HistoryService;
+import org.camunda.bpm.engine.RuntimeService;
+import org.camunda.bpm.engine.TaskService;
+import org.camunda.bpm.engine.history.HistoricActivityInstance;
+import org.camunda.bpm.engine.history.HistoricProcessInstance;
+import org.camunda.bpm.engine.task.Task;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.Arrays;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import static com.example.bankService.util.Constants.MAIN_DEPOSIT_CREDIT_PROCESS;
+import static com.example.bankService.util.Constants.RENDY;
+import static com.example.bankService.util.Constants.RIA;
+
+//Full customer journeys through MainDepositCreditProcess against the in-process engine on the loadtest profile
+//(in-memory H2, job executor running). A fixed number of journeys is kept in flight and every user task is completed
+//by the driver as soon as it shows up, with the branch mix given as arguments:
+//  taxi      share of clients going to the bank by taxi, the others walk
+//  unsigned  chance a contract is not signed, the client chooses a deposit again
+//  badSms    chance a wrong sms code is typed, three wrong codes fail the verification
+//  criminal  share of journeys started for a client on the police list
+//Reports journeys per second, latency percentiles per activity and per journey from the history tables, and the SQL
+//statements per journey counted on the DataSource (background work of the engine included).
+//Run with: mvn -Pbenchmark test -DskipTests -Dbenchmark.main=com.example.bankService.benchmark.JourneyLoadDriver -Dbenchmark.includes=journeys=500,concurrency=16,taxi=0.3,unsigned=0.1,badSms=0.1,criminal=0.05
+public class JourneyLoadDriver {
+
+    private static final Pattern SMS_CODE = Pattern.compile("code: (\\d+)");
+    private static final long STALL_TIMEOUT = TimeUnit.MINUTES.toMillis(2);
+
+    private final Map<String, Double> settings;
+    private final RuntimeService runtimeService;
+    private final TaskService taskService;
+    private final HistoryService historyService;
+    private final ModelVariables modelVariables;
+    private final SmsCodes smsCodes;
+    private final ExecutorService completers;
+    //tasks handed to a completer, a completed task stays in here as the next poll may still have read it
+    private final Set<String> claimedTasks = ConcurrentHashMap.newKeySet();
+    private final Map<String, LongAdder> choices = new ConcurrentHashMap<>();
+    private final LongAdder failedCompletions = new LongAdder();
+
+    JourneyLoadDriver(ConfigurableApplicationContext context, Map<String, Double> settings, SmsCodes smsCodes) {
+        this.settings = settings;
+        this.runtimeService = context.getBean(RuntimeService.class);
+        this.taskService = context.getBean(TaskService.class);
+        this.historyService = context.getBean(HistoryService.class);
+        this.modelVariables = context.getBean(ModelVariables.class);
+        this.smsCodes = smsCodes;
+        this.completers = Executors.newFixedThreadPool(settings.get("completers").intValue(),
+                runnable -> new Thread(runnable, "journey-completer"));
+    }
+
+    public static void main(String... args) throws Exception {
+        var settings = settings(args.length > 0 ? args[0] : "");
+        var statements = new StatementCounter();
+        var smsCodes = new SmsCodes();
+
+        var context = new SpringApplicationBuilder(Application.class)
+                .initializers(applicationContext -> {
+                    applicationContext.getBeanFactory().registerSingleton("journeySmsGateway", smsCodes);
+                    applicationContext.getBeanFactory().addBeanPostProcessor(statements);
+                })
+                .run("--server.port=0",
+                        "--spring.profiles.active=loadtest",
+                        "--bank.sms.provider=journey",
+                        "--logging.level.root=warn");
+        var driver = new JourneyLoadDriver(context, settings, smsCodes);
+        try {
+            driver.run(settings.get("warmup").intValue());
+
+            driver.choices.clear();
+            driver.failedCompletions.reset();
+            statements.reset();
+            var since = new Date();
+            var journeys = settings.get("journeys").intValue();
+            var begin = System.nanoTime();
+            driver.run(journeys);
+            var elapsed = System.nanoTime() - begin;
+
+            driver.report(journeys, elapsed, since, statements);
+        } finally {
+            driver.completers.shutdownNow();
+            context.close();
+        }
+    }
+
+    static Map<String, Double> settings(String argument) {
+        var settings = new HashMap<>(Map.of(
+                "journeys", 300d, "warmup", 30d, "concurrency", 8d, "completers", 4d,
+                "taxi", 0.3, "unsigned", 0.1, "badSms", 0.1, "criminal", 0.05));
+        for (var pair : argument.split("[,\\s]+")) {
+            var keyValue = pair.split("=", 2);
+            if (keyValue.length == 2) {
+                if (!settings.containsKey(keyValue[0])) {
+                    throw new IllegalArgumentException(String.format("Unknown setting %s, known are %s", keyValue[0], settings.keySet()));
+                }
+                settings.put(keyValue[0], Double.parseDouble(keyValue[1]));
+            }
+        }
+        return settings;
+    }
+
+    //Starts the journeys keeping `concurrency` of them in flight, returns when all of them have ended
+    private void run(int journeys) throws InterruptedException {
+        var concurrency = settings.get("concurrency").intValue();
+        var prefix = UUID.randomUUID().toString();
+        var finishedBefore = finishedJourneys();
+        var started = 0;
+        var finished = 0L;
+        var lastProgress = System.currentTimeMillis();
+
+        while (finished < journeys) {
+            while (started < journeys && started - finished < concurrency) {
+                start(prefix + "-" + started++);
+            }
+            completeOpenTasks();
+            Thread.sleep(10);
+
+            var nowFinished = finishedJourneys() - finishedBefore;
+            if (nowFinished > finished) {
+                finished = nowFinished;
+                lastProgress = System.currentTimeMillis();
+            } else if (System.currentTimeMillis() - lastProgress > STALL_TIMEOUT) {
+                throw new IllegalStateException(String.format("No journey has ended for %s s, %s of %s are done, open tasks: %s",
+                        STALL_TIMEOUT / 1000, finished, journeys,
+                        taskService.createTaskQuery().list().stream().map(Task::getTaskDefinitionKey).toList()));
+            }
+        }
+    }
+
+    private void start(String businessKey) {
+        Client client = chance("criminal") ? RENDY : RIA;
+        runtimeService.createProcessInstanceByKey(MAIN_DEPOSIT_CREDIT_PROCESS)
+                .businessKey(businessKey)
+                .setVariable("client", modelVariables.typed("client", client))
+                .execute();
+    }
+
+    private long finishedJourneys() {
+        return historyService.createHistoricProcessInstanceQuery()
+                .processDefinitionKey(MAIN_DEPOSIT_CREDIT_PROCESS)
+                .finished()
+                .count();
+    }
+
+    private void completeOpenTasks() {
+        for (var task : taskService.createTaskQuery().active().list()) {
+            if (claimedTasks.add(task.getId())) {
+                completers.execute(() -> {
+                    try {
+                        if (!complete(task)) {
+                            claimedTasks.remove(task.getId());
+                        }
+                    } catch (RuntimeException e) {
+                        //a concurrent modification of the instance, the task is picked up again on the next poll
+                        failedCompletions.increment();
+                        claimedTasks.remove(task.getId());
+                    }
+                });
+            }
+        }
+    }
+
+    //false when the task can not be completed yet
+    private boolean complete(Task task) {
+        Map<String, Object> variables = switch (task.getTaskDefinitionKey()) {
+            case "GoingToBankId" -> chance("taxi")
+                    ? Map.of("transportMode", "taxi", "taxiCost", "10")
+                    : Map.of("transportMode", "walk");
+            case "GetTicketInQueueMachineId" -> Map.of("ticket", "deposit");
+            case "DepositChoosingId" -> Map.of("depositName", "Hot-Summer");
+            case "ReadAndSignContractId" -> Map.of("isContractSigned", !chance("unsigned"));
+            case "CountOfMoneyToReplenishId" -> Map.of("paidMoney", 100000);
+            case "ProvideSmsValidationCodeId" -> {
+                //the sms leaves the outbox after the commit, the task can show up before it
+                var code = smsCodes.take(task.getProcessInstanceId());
+                if (code == null) {
+                    yield null;
+                }
+                yield Map.of("obtainedMobileCode", chance("badSms") ? code + 1 : code);
+            }
+            default -> throw new IllegalStateException("The driver does not know the task " + task.getTaskDefinitionKey());
+        };
+        if (variables == null) {
+            return false;
+        }
+        taskService.complete(task.getId(), variables);
+        return true;
+    }
+
+    private boolean chance(String choice) {
+        var taken = ThreadLocalRandom.current().nextDouble() < settings.get(choice);
+        if (taken) {
+            choices.computeIfAbsent(choice, name -> new LongAdder()).increment();
+        }
+        return taken;
+    }
+
+    private void report(int journeys, long elapsed, Date since, StatementCounter statements) {
+        var journeyDurations = historyService.createHistoricProcessInstanceQuery()
+                .processDefinitionKey(MAIN_DEPOSIT_CREDIT_PROCESS)
+                .startedAfter(since)
+                .finished()
+                .list()
+                .stream()
+                .map(HistoricProcessInstance::getDurationInMillis)
+                .toList();
+        var activities = historyService.createHistoricActivityInstanceQuery()
+                .startedAfter(since)
+                .finished()
+                .list();
+
+        System.out.println();
+        System.out.printf("journeys %s in %.1f s: %.1f journeys/s, %s task completions retried%n",
+                journeys, elapsed / 1e9, journeys / (elapsed / 1e9), failedCompletions.sum());
+        System.out.printf("branches taken: %s%n", new TreeMap<>(choices));
+        System.out.printf("journey ms: %s%n", percentiles(journeyDurations));
+
+        System.out.printf("%nSQL per journey: %.1f statements in %.1f round trips (",
+                statements.statements() / (double) journeys, statements.roundTrips() / (double) journeys);
+        System.out.print(Arrays.stream(StatementCounter.Kind.values())
+                .map(kind -> String.format("%s %.1f", kind.name().toLowerCase(), statements.statements(kind) / (double) journeys))
+                .collect(Collectors.joining(", ")));
+        System.out.println(")");
+
+        System.out.printf("%nendings: %s%n", activities.stream()
+                .filter(activity -> activity.getActivityType().endsWith("EndEvent")
+                        && MAIN_DEPOSIT_CREDIT_PROCESS.equals(activity.getProcessDefinitionKey()))
+                .collect(Collectors.groupingBy(HistoricActivityInstance::getActivityId, TreeMap::new, Collectors.counting())));
+
+        System.out.printf("%n%-70s %-7s %s%n", "activity (user tasks include the driver's reaction time)", "count", "ms");
+        activities.stream()
+                .collect(Collectors.groupingBy(activity -> activity.getProcessDefinitionKey() + " " + activity.getActivityId(),
+                        TreeMap::new,
+                        Collectors.mapping(HistoricActivityInstance::getDurationInMillis, Collectors.toList())))
+                .forEach((activity, durations) -> System.out.printf("%-70s %-7s %s%n",
+                        activity, durations.size(), percentiles(durations)));
+    }
+
+    private static String percentiles(List<Long> durations) {
+        if (durations.isEmpty()) {
+            return "-";
+        }
+        var sorted = durations.stream().mapToLong(Long::longValue).sorted().toArray();
+        return String.format("p50 %s  p95 %s  p99 %s  max %s",
+                sorted[sorted.length / 2],
+                sorted[(int) (sorted.length * 0.95)],
+                sorted[(int) (sorted.length * 0.99)],
+                sorted[sorted.length - 1]);
+    }
+
+    //Stands in for the sms provider and keeps the last verification code sent for every sms verification instance
+    static final class SmsCodes implements SmsGateway {
+
+        private final Map<String, Integer> codes = new ConcurrentHashMap<>();
+
+        @Override
+        public void send(List<SmsMessage> batch) {
+            for (var message : batch) {
+                var matcher = SMS_CODE.matcher(message.getText());
+                if (matcher.find()) {
+                    codes.put(message.getReference(), Integer.parseInt(matcher.group(1)));
+                }
+            }
+        }
+
+        //every code is used once, a retry waits for the next sms
+        Integer take(String processInstanceId) {
+            return codes.remove(processInstanceId);
+        }
+    }
+}
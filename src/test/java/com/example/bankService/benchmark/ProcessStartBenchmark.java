@@ -0,0 +1,66 @@
+package com.example.bankService.benchmark;
+
+import com.example.bankService.Application;
+import com.example.bankService.service.start.ProcessStartService;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+//Process instances started per second: one engine transaction per instance (what /bank/start/{businessKey} does)
+//against one engine command per chunk with JDBC batching (/bank/start-batch). Runs the whole application on an in-memory H2.
+//Run with: mvn -Pbenchmark test -DskipTests -Dbenchmark.includes=ProcessStartBenchmark
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@OperationsPerInvocation(ProcessStartBenchmark.KEYS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class ProcessStartBenchmark {
+
+    static final int KEYS = 500;
+
+    @Param({"50", "200"})
+    int chunkSize;
+
+    ConfigurableApplicationContext context;
+    ProcessStartService processStartService;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(Application.class)
+                .run("--server.port=0",
+                        "--spring.datasource.url=jdbc:h2:mem:start-benchmark;DB_CLOSE_DELAY=-1",
+                        "--camunda.bpm.job-execution.enabled=false",
+                        "--logging.level.root=warn",
+                        "--bank.sms.provider=fake",
+                        "--bank.start.batch.chunk-size=" + chunkSize);
+        processStartService = context.getBean(ProcessStartService.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public void oneByOne(Blackhole blackhole) {
+        businessKeys().forEach(businessKey -> blackhole.consume(processStartService.start(businessKey)));
+    }
+
+    @Benchmark
+    public void batch(Blackhole blackhole) {
+        processStartService.startBatch(businessKeys(), blackhole::consume);
+    }
+
+    private static List<String> businessKeys() {
+        var prefix = UUID.randomUUID().toString();
+        return IntStream.range(0, KEYS).mapToObj(i -> prefix + "-" + i).toList();
+    }
+}
@@ -0,0 +1,78 @@
+package com.example.bankService.benchmark;
+
+import com.example.bankService.model.Client;
+import com.example.bankService.model.Passport;
+import com.example.bankService.service.screening.ScreeningIndex;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+//Compares the former linear watchlist scan with the ScreeningIndex lookup (bloom filter + exact hash set)
+//Run with: mvn -Pbenchmark test -DskipTests -Dbenchmark.includes=ScreeningBenchmark
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms6g", "-Xmx6g"})
+public class ScreeningBenchmark {
+
+    @Param({"10000", "1000000", "10000000"})
+    int entries;
+
+    List<Client> watchlist;
+    ScreeningIndex index;
+    Client notListedClient;
+    Client listedClient;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        watchlist = new ArrayList<>(entries);
+        for (int i = 0; i < entries; i++) {
+            watchlist.add(client(i));
+        }
+        index = ScreeningIndex.of(watchlist, 0.01);
+        notListedClient = client(-1);
+        listedClient = client(entries / 2);
+    }
+
+    @Benchmark
+    public boolean linearScanNotListed() {
+        return watchlist.stream().anyMatch(info -> matchesClientInfo(info, notListedClient));
+    }
+
+    @Benchmark
+    public boolean linearScanListed() {
+        return watchlist.stream().anyMatch(info -> matchesClientInfo(info, listedClient));
+    }
+
+    @Benchmark
+    public boolean indexNotListed() {
+        return index.contains(notListedClient);
+    }
+
+    @Benchmark
+    public boolean indexListed() {
+        return index.contains(listedClient);
+    }
+
+    //the matching rule ValidationServiceImpl used before the index was introduced
+    private static boolean matchesClientInfo(Client info, Client client) {
+        return info.getName().equals(client.getName())
+                && info.getSurname().equals(client.getSurname())
+                && info.getBirthDate().equals(client.getBirthDate())
+                && info.getPassport().getIdenticalNumber().equals(client.getPassport().getIdenticalNumber());
+    }
+
+    private static Client client(int i) {
+        return Client.builder()
+                .name("Name" + i)
+                .surname("Surname" + i)
+                .birthDate(LocalDate.of(1950, 1, 1).plusDays(Math.floorMod(i, 20_000)))
+                .passport(Passport.builder().identicalNumber("K" + i).build())
+                .build();
+    }
+}
@@ -0,0 +1,99 @@
+package com.example.bankService.benchmark;
+
+import com.example.bankService.Application;
+import org.camunda.bpm.engine.RepositoryService;
+import org.camunda.bpm.engine.RuntimeService;
+import org.camunda.bpm.model.bpmn.Bpmn;
+import org.camunda.bpm.model.bpmn.BpmnModelInstance;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import javax.script.ScriptEngineManager;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.concurrent.TimeUnit;
+
+//Cost of a process with one script task running script/bank-sms-congrats.js: started again and again (execute),
+//and started right after a new version of it was deployed (redeployAndExecute), which is when Camunda compiles
+//the script again unless the shared cache has it. Compared with the Java replacement and, with -Pgraaljs, on GraalJS.
+//Runs the whole application on an in-memory H2.
+//Run with: mvn -Pbenchmark,graaljs test -DskipTests -Dbenchmark.includes=ScriptTaskBenchmark
+//(without -Pgraaljs the graal.js runs fail right away and the Nashorn ones still run)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ScriptTaskBenchmark {
+
+    private static final String PROCESS = "ScriptTaskBenchmarkProcess";
+
+    @Param({"nashorn", "graal.js"})
+    String engine;
+
+    @Param({"false", "true"})
+    boolean cache;
+
+    @Param({"false", "true"})
+    boolean nativeScripts;
+
+    ConfigurableApplicationContext context;
+    RepositoryService repositoryService;
+    RuntimeService runtimeService;
+    BpmnModelInstance model;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        if (new ScriptEngineManager().getEngineByName(engine) == null) {
+            throw new IllegalStateException(String.format("Script engine %s is not on the classpath", engine));
+        }
+        //the script prints a whole letter per execution
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+
+        context = new SpringApplicationBuilder(Application.class)
+                .run("--server.port=0",
+                        "--spring.datasource.url=jdbc:h2:mem:script-benchmark;DB_CLOSE_DELAY=-1",
+                        "--camunda.bpm.job-execution.enabled=false",
+                        "--logging.level.root=warn",
+                        "--bank.sms.provider=fake",
+                        "--bank.script.engine=" + engine,
+                        "--bank.script.cache=" + cache,
+                        "--bank.script.native-scripts=" + nativeScripts);
+        repositoryService = context.getBean(RepositoryService.class);
+        runtimeService = context.getBean(RuntimeService.class);
+
+        model = Bpmn.createExecutableProcess(PROCESS)
+                .camundaHistoryTimeToLive(1)
+                .startEvent()
+                .scriptTask("congrats")
+                .scriptFormat("JavaScript")
+                .camundaResource("script/bank-sms-congrats.js")
+                .endEvent()
+                .done();
+        deploy();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Object execute() {
+        return runtimeService.startProcessInstanceByKey(PROCESS);
+    }
+
+    @Benchmark
+    public Object redeployAndExecute() {
+        deploy();
+        return runtimeService.startProcessInstanceByKey(PROCESS);
+    }
+
+    private void deploy() {
+        repositoryService.createDeployment()
+                .addModelInstance(PROCESS + ".bpmn", model)
+                .deploy();
+    }
+}
@@ -0,0 +1,55 @@
+package com.example.bankService.benchmark;
+
+import com.example.bankService.model.Client;
+import com.example.bankService.service.serialization.BinaryModelFormat;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+import static com.example.bankService.util.Constants.RIA;
+
+//Jackson JSON (what Spin stores for application/json) against the application/x-bank-binary codecs for the client variable.
+//Encoded sizes are printed once per trial.
+//Run with: mvn -Pbenchmark test -DskipTests -Dbenchmark.includes=SerializationBenchmark (add -prof gc for allocations)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SerializationBenchmark {
+
+    ObjectMapper objectMapper;
+    byte[] json;
+    byte[] binary;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        objectMapper = new ObjectMapper().findAndRegisterModules();
+        json = objectMapper.writeValueAsBytes(RIA);
+        binary = BinaryModelFormat.encode(RIA);
+
+        System.out.printf("%nclient variable size: json=%d bytes, binary=%d bytes%n", json.length, binary.length);
+    }
+
+    @Benchmark
+    public byte[] encodeJson() throws Exception {
+        return objectMapper.writeValueAsBytes(RIA);
+    }
+
+    @Benchmark
+    public byte[] encodeBinary() {
+        return BinaryModelFormat.encode(RIA);
+    }
+
+    @Benchmark
+    public Client decodeJson() throws Exception {
+        return objectMapper.readValue(json, Client.class);
+    }
+
+    @Benchmark
+    public Object decodeBinary() {
+        return BinaryModelFormat.decode(binary);
+    }
+}
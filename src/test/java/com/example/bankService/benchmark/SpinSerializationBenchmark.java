@@ -0,0 +1,79 @@
+package com.example.bankService.benchmark;
+
+import com.example.bankService.model.DepositContract;
+import org.camunda.bpm.spring.boot.starter.spin.CamundaJacksonFormatConfiguratorJSR310;
+import org.camunda.bpm.spring.boot.starter.spin.CamundaJacksonFormatConfiguratorJdk8;
+import org.camunda.bpm.spring.boot.starter.spin.CamundaJacksonFormatConfiguratorParameterNames;
+import org.camunda.spin.DataFormats;
+import org.camunda.spin.spi.DataFormat;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static com.example.bankService.util.Constants.BANK_DEPOSITS;
+import static com.example.bankService.util.Constants.RIA;
+
+//Spin application/json (de)serialization of the client and preparedDepositContract variables, the same
+//mapper, reader and writer calls the engine's Spin object serializer makes when a variable is written or read.
+//The data format gets the Jackson modules the Camunda starter registers in the application.
+//Run with: mvn -Pbenchmark test -DskipTests -Dbenchmark.includes=SpinSerializationBenchmark (add -prof gc for allocations)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SpinSerializationBenchmark {
+
+    @Param({"client", "depositContract"})
+    String variable;
+
+    DataFormat<?> json;
+    Object value;
+    String typeName;
+    String serialized;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        DataFormats.loadDataFormats(getClass().getClassLoader(), List.of(
+                new CamundaJacksonFormatConfiguratorJSR310(),
+                new CamundaJacksonFormatConfiguratorJdk8(),
+                new CamundaJacksonFormatConfiguratorParameterNames()));
+        json = DataFormats.json();
+        value = switch (variable) {
+            case "client" -> RIA;
+            case "depositContract" -> new DepositContract()
+                    .setId(UUID.randomUUID())
+                    .setName(BANK_DEPOSITS.get(0).getName())
+                    .setMinimalSum(BANK_DEPOSITS.get(0).getMinimalSum())
+                    .setOpenDate(OffsetDateTime.now())
+                    .setCloseDate(OffsetDateTime.now().plusMonths(12))
+                    .setClientName(RIA.getName())
+                    .setClientSurName(RIA.getSurname())
+                    .setClientPhoneNumber(RIA.getPhoneNumber());
+            default -> throw new IllegalArgumentException("Unknown variable " + variable);
+        };
+        typeName = json.getMapper().getCanonicalTypeName(value);
+        serialized = serialize();
+
+        System.out.printf("%n%s variable size: %d characters%n", variable, serialized.length());
+    }
+
+    @Benchmark
+    public String serialize() {
+        var writer = new StringWriter();
+        json.getWriter().writeToWriter(writer, json.getMapper().mapJavaToInternal(value));
+        return writer.toString();
+    }
+
+    @Benchmark
+    public Object deserialize() {
+        var internal = json.getReader().readInput(new StringReader(serialized));
+        return json.getMapper().mapInternalToJava(internal, typeName);
+    }
+}
@@ -0,0 +1,123 @@
+package com.example.bankService.benchmark;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+//Wraps the application DataSource and counts the SQL statements sent through it by kind, and the JDBC round trips.
+//A statement added to a batch counts when it is added, the batch itself counts as one round trip.
+final class StatementCounter implements BeanPostProcessor {
+
+    enum Kind { SELECT, INSERT, UPDATE, DELETE, OTHER }
+
+    private final Map<Kind, LongAdder> statements = new EnumMap<>(Kind.class);
+    private final LongAdder roundTrips = new LongAdder();
+
+    StatementCounter() {
+        for (var kind : Kind.values()) {
+            statements.put(kind, new LongAdder());
+        }
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        return bean instanceof DataSource dataSource ? proxy(DataSource.class, dataSource, this::dataSource) : bean;
+    }
+
+    long statements(Kind kind) {
+        return statements.get(kind).sum();
+    }
+
+    long statements() {
+        return statements.values().stream().mapToLong(LongAdder::sum).sum();
+    }
+
+    long roundTrips() {
+        return roundTrips.sum();
+    }
+
+    void reset() {
+        statements.values().forEach(LongAdder::reset);
+        roundTrips.reset();
+    }
+
+    private Object dataSource(DataSource target, Method method, Object[] args) throws Throwable {
+        var result = invoke(target, method, args);
+        return result instanceof Connection connection ? proxy(Connection.class, connection, this::connection) : result;
+    }
+
+    private Object connection(Connection target, Method method, Object[] args) throws Throwable {
+        var result = invoke(target, method, args);
+        var sql = args != null && args.length > 0 && args[0] instanceof String text ? text : null;
+        return switch (method.getName()) {
+            case "prepareCall" -> proxy(CallableStatement.class, (CallableStatement) result, statement(sql));
+            case "prepareStatement" -> proxy(PreparedStatement.class, (PreparedStatement) result, statement(sql));
+            case "createStatement" -> proxy(Statement.class, (Statement) result, statement(null));
+            default -> result;
+        };
+    }
+
+    private <S extends Statement> Handler<S> statement(String preparedSql) {
+        return (target, method, args) -> {
+            var name = method.getName();
+            var sql = args != null && args.length > 0 && args[0] instanceof String text ? text : preparedSql;
+            if (name.equals("addBatch")) {
+                statements.get(kindOf(sql)).increment();
+            } else if (name.equals("executeBatch") || name.equals("executeLargeBatch")) {
+                roundTrips.increment();
+            } else if (name.startsWith("execute")) {
+                statements.get(kindOf(sql)).increment();
+                roundTrips.increment();
+            }
+            return invoke(target, method, args);
+        };
+    }
+
+    private static Kind kindOf(String sql) {
+        if (sql == null) {
+            return Kind.OTHER;
+        }
+        var trimmed = sql.stripLeading().toLowerCase(Locale.ROOT);
+        for (var kind : Kind.values()) {
+            if (trimmed.startsWith(kind.name().toLowerCase(Locale.ROOT))) {
+                return kind;
+            }
+        }
+        return Kind.OTHER;
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, T target, Handler<T> handler) {
+        InvocationHandler invocationHandler = (proxy, method, args) -> switch (method.getName()) {
+            case "equals" -> proxy == args[0];
+            case "hashCode" -> System.identityHashCode(proxy);
+            default -> handler.handle(target, method, args);
+        };
+        return (T) Proxy.newProxyInstance(StatementCounter.class.getClassLoader(), new Class<?>[]{type}, invocationHandler);
+    }
+
+    @FunctionalInterface
+    private interface Handler<T> {
+        Object handle(T target, Method method, Object[] args) throws Throwable;
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.bankService.benchmark;
+
+import com.example.bankService.service.ValidationResult;
+import com.example.bankService.service.ValidationServiceImpl;
+import com.example.bankService.service.screening.ScreeningIndexRegistry;
+import com.example.bankService.service.screening.ScreeningProperties;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+import static com.example.bankService.util.Constants.RIA;
+
+//Three separate ValidationService calls (what ClientFullValidationDelegate did) against validateAll
+//Run with: mvn -Pbenchmark test -DskipTests -Dbenchmark.includes=ValidationBenchmark (add -prof gc for allocations)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ValidationBenchmark {
+
+    ValidationServiceImpl validationService;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        validationService = new ValidationServiceImpl(new ScreeningIndexRegistry(new ScreeningProperties()));
+    }
+
+    @Benchmark
+    public void separateChecks(Blackhole blackhole) {
+        blackhole.consume(validationService.isClientWantedByPolice(RIA));
+        blackhole.consume(validationService.isClientInBlackList(RIA));
+        blackhole.consume(validationService.isValidPassport(RIA));
+    }
+
+    @Benchmark
+    public ValidationResult validateAll() {
+        return validationService.validateAll(RIA);
+    }
+}
@@ -0,0 +1,68 @@
+package com.example.bankService.benchmark;
+
+import com.example.bankService.service.sms.VerificationCodeGenerator;
+import org.openjdk.jmh.annotations.*;
+
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+//Six digit codes per second: a new Random per code (what PrepareSmsDelegate did), one SecureRandom shared by all
+//threads and the striped, buffered VerificationCodeGenerator, on one and on four threads.
+//Run with: mvn -Pbenchmark test -DskipTests -Dbenchmark.includes=VerificationCodeBenchmark (add -prof gc for allocations)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class VerificationCodeBenchmark {
+
+    private static final int BOUND = 1_000_000;
+
+    SecureRandom sharedSecureRandom;
+    VerificationCodeGenerator generator;
+
+    @Setup(Level.Trial)
+    public void setUp() throws NoSuchAlgorithmException {
+        sharedSecureRandom = SecureRandom.getInstance("DRBG");
+        generator = new VerificationCodeGenerator(6);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public int newRandom() {
+        return new Random().nextInt(BOUND);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public int newRandom4() {
+        return new Random().nextInt(BOUND);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public int sharedSecureRandom() {
+        return sharedSecureRandom.nextInt(BOUND);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public int sharedSecureRandom4() {
+        return sharedSecureRandom.nextInt(BOUND);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public int generator() {
+        return generator.next();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public int generator4() {
+        return generator.next();
+    }
+}
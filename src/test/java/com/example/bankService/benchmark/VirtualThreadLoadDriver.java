@@ -0,0 +1,153 @@
+package com.example.bankService.benchmark;
+
+import com.example.bankService.Application;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+//Closed-loop load on POST /bank/start/{businessKey}: the application is started once on platform threads and,
+//on a Java 21 runtime, once more with spring.threads.virtual.enabled, and both runs print the peak number of
+//server side platform threads and the latency percentiles. Client threads are left out of the thread count.
+//Run with: mvn -Pbenchmark,virtual-threads test -DskipTests -Dbenchmark.main=com.example.bankService.benchmark.VirtualThreadLoadDriver -Dbenchmark.includes=1000
+//(the argument is the number of concurrent clients, each run sends 20 requests per client)
+public class VirtualThreadLoadDriver {
+
+    private static final String CLIENT_THREAD = "load-client-";
+    private static final int REQUESTS_PER_CLIENT = 20;
+
+    public static void main(String... args) throws Exception {
+        var clients = args.length > 0 && args[0].matches("\\d+") ? Integer.parseInt(args[0]) : 1000;
+
+        var results = new ArrayList<String>();
+        results.add(run(false, clients));
+        if (Runtime.version().feature() >= 21) {
+            results.add(run(true, clients));
+        } else {
+            results.add(String.format("virtual   skipped, running on Java %s", Runtime.version().feature()));
+        }
+
+        System.out.println();
+        System.out.println("mode      clients  requests  req/s    p50 ms   p99 ms   max ms   peak server threads");
+        results.forEach(System.out::println);
+    }
+
+    private static String run(boolean virtual, int clients) throws Exception {
+        var mode = virtual ? "virtual" : "platform";
+        var context = new SpringApplicationBuilder(Application.class)
+                .run("--server.port=0",
+                        "--spring.datasource.url=jdbc:h2:mem:load-" + mode + ";DB_CLOSE_DELAY=-1",
+                        "--spring.threads.virtual.enabled=" + virtual,
+                        "--camunda.bpm.job-execution.enabled=false",
+                        "--logging.level.root=warn",
+                        "--bank.sms.provider=fake");
+        try {
+            var port = context.getEnvironment().getProperty("local.server.port");
+            var baseUri = "http://localhost:" + port + "/bank/start/";
+            var http = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+
+            //warm up the request path before measuring
+            for (var i = 0; i < 200; i++) {
+                send(http, baseUri + "warmup-" + i);
+            }
+
+            var requests = clients * REQUESTS_PER_CLIENT;
+            var latencies = new long[requests];
+            var next = new AtomicInteger();
+            var done = new CountDownLatch(clients);
+            var running = new AtomicBoolean(true);
+            var peakThreads = new AtomicInteger();
+            var prefix = UUID.randomUUID().toString();
+
+            var sampler = new Thread(() -> {
+                while (running.get()) {
+                    peakThreads.accumulateAndGet(serverThreads(), Math::max);
+                    sleep(10);
+                }
+            }, "load-sampler");
+            sampler.start();
+
+            var begin = System.nanoTime();
+            for (var c = 0; c < clients; c++) {
+                var worker = new Thread(() -> {
+                    try {
+                        int index;
+                        while ((index = next.getAndIncrement()) < requests) {
+                            var sentAt = System.nanoTime();
+                            send(http, baseUri + prefix + "-" + index);
+                            latencies[index] = System.nanoTime() - sentAt;
+                        }
+                    } finally {
+                        done.countDown();
+                    }
+                }, CLIENT_THREAD + c);
+                worker.start();
+            }
+            done.await(30, TimeUnit.MINUTES);
+            var elapsed = System.nanoTime() - begin;
+            running.set(false);
+            sampler.join();
+
+            Arrays.sort(latencies);
+            return String.format("%-9s %-8s %-9s %-8.0f %-8.1f %-8.1f %-8.1f %s",
+                    mode, clients, requests, requests / (elapsed / 1e9),
+                    millis(latencies[requests / 2]),
+                    millis(latencies[(int) (requests * 0.99)]),
+                    millis(latencies[requests - 1]),
+                    peakThreads.get());
+        } finally {
+            context.close();
+        }
+    }
+
+    private static void send(HttpClient http, String uri) {
+        var request = HttpRequest.newBuilder(URI.create(uri))
+                .POST(HttpRequest.BodyPublishers.noBody())
+                .build();
+        try {
+            var response = http.send(request, HttpResponse.BodyHandlers.discarding());
+            if (response.statusCode() != 200) {
+                throw new IllegalStateException(String.format("%s answered %s", uri, response.statusCode()));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    //Live platform threads without the load generator itself, virtual threads are not reported by the MXBean
+    private static int serverThreads() {
+        var threads = ManagementFactory.getThreadMXBean();
+        return (int) Arrays.stream(threads.getThreadInfo(threads.getAllThreadIds()))
+                .filter(info -> info != null
+                        && !info.getThreadName().startsWith(CLIENT_THREAD)
+                        && !info.getThreadName().startsWith("HttpClient")
+                        && !info.getThreadName().equals("load-sampler"))
+                .count();
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1e6;
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -36,7 +36,7 @@ public class ChooseTransportToHomeTest extends AbstractTestBase {
     public void setUp(){
         dmnEngine = new DefaultDmnEngineConfiguration().buildEngine();
 
-        var inputStream = getClass().getClassLoader().getResourceAsStream("choose-transport-to-home-dmn.dmn");
+        var inputStream = getClass().getClassLoader().getResourceAsStream("dmn/choose-transport-to-home-dmn.dmn");
         assertNotNull(inputStream, "DMN file is not found");
 
         var decisionGraph = dmnEngine.parseDecisionRequirementsGraph(inputStream);
@@ -1,27 +1,38 @@
 package com.example.bankService.it;
 
 import com.example.bankService.model.Client;
+import com.example.bankService.service.outbox.SignalOutboxRelay;
+import com.example.bankService.service.sms.OtpEntry;
+import com.example.bankService.service.sms.OtpStore;
+import com.example.bankService.service.sms.SmsMessage;
+import com.example.bankService.service.sms.SmsOutbox;
 import lombok.AccessLevel;
 import lombok.experimental.FieldDefaults;
 import org.camunda.bpm.engine.ManagementService;
 import org.camunda.bpm.engine.RuntimeService;
 import org.camunda.bpm.engine.TaskService;
+import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
 import org.springframework.test.context.ActiveProfiles;
 
 import java.math.BigDecimal;
 import java.util.HashMap;
 import java.util.Map;
 
+import static com.example.bankService.service.correlation.ProcessCorrelator.REPLY_TO;
 import static com.example.bankService.util.Constants.*;
 import static org.camunda.bpm.engine.test.assertions.bpmn.BpmnAwareTests.execute;
 import static org.camunda.bpm.engine.test.assertions.bpmn.BpmnAwareTests.job;
 import static org.camunda.bpm.engine.test.assertions.bpmn.BpmnAwareTests.assertThat;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.verify;
 
 
 @ActiveProfiles({"integration-test"})
@@ -58,6 +69,16 @@ public class DepositOpeningProcessIT {
     @Autowired
     ManagementService managementService;
 
+    //the process only keeps a hash of the code, the tests read it from the sms
+    @SpyBean
+    SmsOutbox smsOutbox;
+
+    @Autowired
+    OtpStore otpStore;
+
+    @Autowired
+    SignalOutboxRelay signalOutboxRelay;
+
     @BeforeEach
     void cleanUpProcesses(){
         runtimeService.createProcessInstanceQuery().list()
@@ -129,7 +150,7 @@ public class DepositOpeningProcessIT {
       //search for running call activity "OpenDeposit"
       var openDeposit = runtimeService.createProcessInstanceQuery()
               .processDefinitionKey("DepositOpening")
-              .variableValueEquals("correlationId", "testCorrelationId")
+              .superProcessInstanceId(mainDepositCreditProcess.getId())
               .active()
               .singleResult();
       assertThat(openDeposit).isNotNull();
@@ -155,7 +176,7 @@ public class DepositOpeningProcessIT {
 
 
       taskService.complete(userTaskDepositChoosing.getId(), userTaskDepositChoosingVariables);
-      assertThat(openDeposit).hasPassed("GatewayIsDepositChosen", "Gateway_1b1dio2",
+      assertThat(openDeposit).hasPassed("GatewayIsDepositChosenId", "Gateway_1b1dio2",
               "ClientExistingCheckingId", "ClientParticularValidationId", "GatewayMergeIsNewClientId",
               "GatewayIsSuccessValidationId", "StartVerificationSmsDelegateId"
       );
@@ -166,8 +187,7 @@ public class DepositOpeningProcessIT {
       //start SmsVerification process
       var smsVerification = runtimeService.createProcessInstanceQuery()
               .processDefinitionKey("SmsVerification")
-              .processInstanceBusinessKey("depositOpeningBusinessKey")
-              .variableValueEquals("correlationId", "testCorrelationId")
+              .variableValueEquals(REPLY_TO, openDeposit.getId())
               .active()
               .singleResult();
       assertThat(smsVerification).isNotNull();
@@ -188,10 +208,9 @@ public class DepositOpeningProcessIT {
 
       assertThat(provideSmsCodeUserTask).isNotNull();
 
-      var mobileCode = runtimeService.getVariable(smsVerification.getId(), "sendMobileCode");
+      var mobileCode = sentMobileCode(smsVerification.getId());
 
       var provideSmsCodeUserTaskVariables = new HashMap<String, Object>();
-      provideSmsCodeUserTaskVariables.put("sendMobileCode", mobileCode);
       provideSmsCodeUserTaskVariables.put("obtainedMobileCode", mobileCode);
 
 
@@ -199,7 +218,7 @@ public class DepositOpeningProcessIT {
 
 
       assertThat(smsVerification).hasPassed("ProvideSmsValidationCodeId",
-              "ValidateCodeFromSmsId", "Gateway_0nf9mn4","SendSuccessVerificationSmsId");
+              "ValidateCodeFromSmsId", "GatewayIsSmsCodeValidId");
       assertThat(smsVerification).isWaitingAt("SendSuccessVerificationSmsId");
 
       execute(job("SendSuccessVerificationSmsId"));
@@ -238,7 +257,7 @@ public class DepositOpeningProcessIT {
       assertThat(moneyToReplenish).isNotNull();
 
       var moneyToReplenishUserTaskVariables = new HashMap<String, Object>();
-      moneyToReplenishUserTaskVariables.put("paidMoney", "25.0");
+      moneyToReplenishUserTaskVariables.put("paidMoney", 100);
 
       taskService.complete(moneyToReplenish.getId(), moneyToReplenishUserTaskVariables);
       assertThat(openDeposit).hasPassed("CountOfMoneyToReplenishId", "MoneyCountVerificationId", "SignalToFinishDepositProcessId");
@@ -251,7 +270,7 @@ public class DepositOpeningProcessIT {
 
       var goingHomeProcess = runtimeService.createProcessInstanceQuery()
               .processDefinitionKey("GoingHome")
-              .variableValueEquals("correlationId", "testCorrelationId")
+              .superProcessInstanceId(mainDepositCreditProcess.getId())
               .active()
               .singleResult();
       assertThat(goingHomeProcess).isNotNull();
@@ -265,6 +284,9 @@ public class DepositOpeningProcessIT {
       assertThat(goingHomeProcess).isEnded();
 
 
+      //the finishing signal waits in the outbox until the relay runs
+      signalOutboxRelay.relay();
+
       //start process BankEmailCongrats
       var bankEmailCongrats = runtimeService.createProcessInstanceQuery()
               .processDefinitionKey("BankEmailCongratsId")
@@ -308,7 +330,7 @@ public class DepositOpeningProcessIT {
 
       managementService.executeJob(smsDelayTimerJob.getId());
 
-      assertThat(bankSmsCongrats).hasPassed("smsDelayTimerJob",
+      assertThat(bankSmsCongrats).hasPassed("SmsDelayTimerId",
                                                      "ActivityCongratsSmsAfterwardsId",
                                                      "SmsCongratsEndEventId");
       assertThat(bankSmsCongrats).isEnded();
@@ -374,7 +396,7 @@ public class DepositOpeningProcessIT {
         //search for running call activity "OpenDeposit"
         var openDeposit = runtimeService.createProcessInstanceQuery()
                 .processDefinitionKey("DepositOpening")
-                .variableValueEquals("correlationId", "testCorrelationId")
+                .superProcessInstanceId(mainDepositCreditProcess.getId())
                 .active()
                 .singleResult();
 
@@ -400,7 +422,7 @@ public class DepositOpeningProcessIT {
 
 
         taskService.complete(userTaskDepositChoosing.getId(), userTaskDepositChoosingVariables);
-        assertThat(openDeposit).hasPassed("GatewayIsDepositChosen",
+        assertThat(openDeposit).hasPassed("GatewayIsDepositChosenId",
                                                      "Gateway_1b1dio2",
                                                     "ClientExistingCheckingId",
                                                     "ClientFullValidationId",
@@ -413,7 +435,6 @@ public class DepositOpeningProcessIT {
         );
 
         assertThat(openDeposit).hasNotPassed("StartVerificationSmsDelegate", "SignalToFinishDepositProcessId");
-        assertThat(openDeposit).isWaitingAt("EndVerificationSmsDelegateId");
 
         assertThat(openDeposit).isEnded();
 
@@ -480,7 +501,7 @@ public class DepositOpeningProcessIT {
         //search for running call activity "OpenDeposit"
         var openDeposit = runtimeService.createProcessInstanceQuery()
                 .processDefinitionKey("DepositOpening")
-                .variableValueEquals("correlationId", "testCorrelationId")
+                .superProcessInstanceId(mainDepositCreditProcess.getId())
                 .active()
                 .singleResult();
         assertThat(openDeposit).isNotNull();
@@ -505,7 +526,7 @@ public class DepositOpeningProcessIT {
 
 
         taskService.complete(userTaskDepositChoosing.getId(), userTaskDepositChoosingVariables);
-        assertThat(openDeposit).hasPassed("GatewayIsDepositChosen", "Gateway_1b1dio2",
+        assertThat(openDeposit).hasPassed("GatewayIsDepositChosenId", "Gateway_1b1dio2",
                 "ClientExistingCheckingId", "ClientParticularValidationId", "GatewayMergeIsNewClientId",
                 "GatewayIsSuccessValidationId", "StartVerificationSmsDelegateId"
         );
@@ -516,8 +537,7 @@ public class DepositOpeningProcessIT {
         //start SmsVerification process
         var smsVerification = runtimeService.createProcessInstanceQuery()
                 .processDefinitionKey("SmsVerification")
-                .processInstanceBusinessKey("depositOpeningBusinessKey")
-                .variableValueEquals("correlationId", "testCorrelationId")
+                .variableValueEquals(REPLY_TO, openDeposit.getId())
                 .active()
                 .singleResult();
         assertThat(smsVerification).isNotNull();
@@ -538,10 +558,9 @@ public class DepositOpeningProcessIT {
 
         assertThat(provideSmsCodeUserTask).isNotNull();
 
-        var mobileCode = runtimeService.getVariable(smsVerification.getId(), "sendMobileCode");
+        var mobileCode = sentMobileCode(smsVerification.getId());
 
         var provideSmsCodeUserTaskVariables = new HashMap<String, Object>();
-        provideSmsCodeUserTaskVariables.put("sendMobileCode", mobileCode);
         provideSmsCodeUserTaskVariables.put("obtainedMobileCode", mobileCode);
 
 
@@ -549,7 +568,7 @@ public class DepositOpeningProcessIT {
 
 
         assertThat(smsVerification).hasPassed("ProvideSmsValidationCodeId",
-                "ValidateCodeFromSmsId", "Gateway_0nf9mn4","SendSuccessVerificationSmsId");
+                "ValidateCodeFromSmsId", "GatewayIsSmsCodeValidId");
         assertThat(smsVerification).isWaitingAt("SendSuccessVerificationSmsId");
 
         execute(job("SendSuccessVerificationSmsId"));
@@ -646,7 +665,7 @@ public class DepositOpeningProcessIT {
         assertThat(openDeposit).isWaitingAt("DepositChoosingCountEndLinkId");
         execute(job("DepositChoosingCountEndLinkId"));
 
-        assertThat(openDeposit).hasPassed("DepositChoosingCountEndLinkId", "DocumentsPreparationId");
+        assertThat(openDeposit).hasPassed("DocumentsPreparationId");
 
         assertThat(openDeposit).isWaitingAt("ReadAndSignContractId");
 
@@ -678,7 +697,7 @@ public class DepositOpeningProcessIT {
 
         var goingHomeProcess = runtimeService.createProcessInstanceQuery()
                 .processDefinitionKey("GoingHome")
-                .variableValueEquals("correlationId", "testCorrelationId")
+                .superProcessInstanceId(mainDepositCreditProcess.getId())
                 .active()
                 .singleResult();
         assertThat(goingHomeProcess).isNotNull();
@@ -691,7 +710,7 @@ public class DepositOpeningProcessIT {
 
         assertThat(goingHomeProcess).isEnded();
 
-        assertThat(mainDepositCreditProcess).hasPassed("EventSuddenOperationInterruptionErrorWhenNoMoreDepositsEndId");
+        assertThat(mainDepositCreditProcess).hasPassed("EventSuddenOperationInteruptionErrorWhenNoMoreDepositsEndId");
         assertThat(mainDepositCreditProcess).isEnded();
 
     }
@@ -757,7 +776,7 @@ public class DepositOpeningProcessIT {
         //search for running call activity "OpenDeposit"
         var openDeposit = runtimeService.createProcessInstanceQuery()
                 .processDefinitionKey("DepositOpening")
-                .variableValueEquals("correlationId", "testCorrelationId")
+                .superProcessInstanceId(mainDepositCreditProcess.getId())
                 .active()
                 .singleResult();
         assertThat(openDeposit).isNotNull();
@@ -783,7 +802,7 @@ public class DepositOpeningProcessIT {
 
 
         taskService.complete(userTaskDepositChoosing.getId(), userTaskDepositChoosingVariables);
-        assertThat(openDeposit).hasPassed("GatewayIsDepositChosen", "Gateway_1b1dio2",
+        assertThat(openDeposit).hasPassed("GatewayIsDepositChosenId", "Gateway_1b1dio2",
                 "ClientExistingCheckingId", "ClientParticularValidationId", "GatewayMergeIsNewClientId",
                 "GatewayIsSuccessValidationId", "StartVerificationSmsDelegateId"
         );
@@ -794,8 +813,7 @@ public class DepositOpeningProcessIT {
         //start SmsVerification process
         var smsVerification = runtimeService.createProcessInstanceQuery()
                 .processDefinitionKey("SmsVerification")
-                .processInstanceBusinessKey("depositOpeningBusinessKey")
-                .variableValueEquals("correlationId", "testCorrelationId")
+                .variableValueEquals(REPLY_TO, openDeposit.getId())
                 .active()
                 .singleResult();
         assertThat(smsVerification).isNotNull();
@@ -816,10 +834,9 @@ public class DepositOpeningProcessIT {
 
         assertThat(provideSmsCodeUserTask).isNotNull();
 
-        var mobileCode = runtimeService.getVariable(smsVerification.getId(), "sendMobileCode");
+        var mobileCode = sentMobileCode(smsVerification.getId());
 
         var provideSmsCodeUserTaskVariables = new HashMap<String, Object>();
-        provideSmsCodeUserTaskVariables.put("sendMobileCode", mobileCode);
         provideSmsCodeUserTaskVariables.put("obtainedMobileCode", mobileCode);
 
 
@@ -827,7 +844,7 @@ public class DepositOpeningProcessIT {
 
 
         assertThat(smsVerification).hasPassed("ProvideSmsValidationCodeId",
-                "ValidateCodeFromSmsId", "Gateway_0nf9mn4","SendSuccessVerificationSmsId");
+                "ValidateCodeFromSmsId", "GatewayIsSmsCodeValidId");
         assertThat(smsVerification).isWaitingAt("SendSuccessVerificationSmsId");
 
         execute(job("SendSuccessVerificationSmsId"));
@@ -869,7 +886,7 @@ public class DepositOpeningProcessIT {
 
     var goingHomeProcess = runtimeService.createProcessInstanceQuery()
             .processDefinitionKey("GoingHome")
-            .variableValueEquals("correlationId", "testCorrelationId")
+            .superProcessInstanceId(mainDepositCreditProcess.getId())
             .active()
             .singleResult();
     assertThat(goingHomeProcess).isNotNull();
@@ -940,7 +957,7 @@ public class DepositOpeningProcessIT {
       //search for running call activity "OpenDeposit"
       var openDeposit = runtimeService.createProcessInstanceQuery()
               .processDefinitionKey("DepositOpening")
-              .variableValueEquals("correlationId", "testCorrelationId")
+              .superProcessInstanceId(mainDepositCreditProcess.getId())
               .active()
               .singleResult();
       assertThat(openDeposit).isNotNull();
@@ -966,7 +983,7 @@ public class DepositOpeningProcessIT {
 
 
       taskService.complete(userTaskDepositChoosing.getId(), userTaskDepositChoosingVariables);
-      assertThat(openDeposit).hasPassed("GatewayIsDepositChosen", "Gateway_1b1dio2",
+      assertThat(openDeposit).hasPassed("GatewayIsDepositChosenId", "Gateway_1b1dio2",
               "ClientExistingCheckingId", "ClientParticularValidationId", "GatewayMergeIsNewClientId",
               "GatewayIsSuccessValidationId", "StartVerificationSmsDelegateId"
       );
@@ -977,8 +994,7 @@ public class DepositOpeningProcessIT {
       //start SmsVerification process
       var smsVerification = runtimeService.createProcessInstanceQuery()
               .processDefinitionKey("SmsVerification")
-              .processInstanceBusinessKey("depositOpeningBusinessKey")
-              .variableValueEquals("correlationId", "testCorrelationId")
+              .variableValueEquals(REPLY_TO, openDeposit.getId())
               .active()
               .singleResult();
       assertThat(smsVerification).isNotNull();
@@ -1000,11 +1016,9 @@ public class DepositOpeningProcessIT {
 
       assertThat(provideSmsCodeUserTask).isNotNull();
 
-      var mobileCode = runtimeService.getVariable(smsVerification.getId(), "sendMobileCode");
-      var notValidSmsCode = "124348";
+      var notValidSmsCode = 124348;
 
       var provideSmsCodeUserTaskVariables = new HashMap<String, Object>();
-      provideSmsCodeUserTaskVariables.put("sendMobileCode", mobileCode);
       provideSmsCodeUserTaskVariables.put("obtainedMobileCode", notValidSmsCode);
 
       taskService.complete(provideSmsCodeUserTask.getId(), provideSmsCodeUserTaskVariables);
@@ -1012,10 +1026,8 @@ public class DepositOpeningProcessIT {
       assertThat(smsVerification).hasPassed("ProvideSmsValidationCodeId", "ValidateCodeFromSmsId", "GatewayIsSmsCodeValidId");
       assertThat(smsVerification).hasNotPassed("Flow_0d7utu9");
 
-      assertThat(smsVerification).isWaitingAt("ProvideSmsValidationCodeId")
-              .variables()
-              .extracting("sendMobileCodeCount")
-              .isEqualTo(2);
+      assertThat(smsVerification).isWaitingAt("ProvideSmsValidationCodeId");
+      Assertions.assertThat(otpStore.find(smsVerification.getId()).map(OtpEntry::getSentCount)).contains(2);
 
 
 
@@ -1032,10 +1044,8 @@ public class DepositOpeningProcessIT {
       assertThat(smsVerification).hasPassed("ProvideSmsValidationCodeId", "ValidateCodeFromSmsId", "GatewayIsSmsCodeValidId");
       assertThat(smsVerification).hasNotPassed("Flow_0d7utu9");
 
-      assertThat(smsVerification).isWaitingAt("ProvideSmsValidationCodeId")
-              .variables()
-              .extracting("sendMobileCodeCount")
-              .isEqualTo(3);
+      assertThat(smsVerification).isWaitingAt("ProvideSmsValidationCodeId");
+      Assertions.assertThat(otpStore.find(smsVerification.getId()).map(OtpEntry::getSentCount)).contains(3);
 
 
 
@@ -1068,7 +1078,7 @@ public class DepositOpeningProcessIT {
       //start call activity RoadToHome
       var goingHomeProcess = runtimeService.createProcessInstanceQuery()
               .processDefinitionKey("GoingHome")
-              .variableValueEquals("correlationId", "testCorrelationId")
+              .superProcessInstanceId(mainDepositCreditProcess.getId())
               .active()
               .singleResult();
       assertThat(goingHomeProcess).isNotNull();
@@ -1085,11 +1095,22 @@ public class DepositOpeningProcessIT {
       }
 
 
+    private Integer sentMobileCode(String processInstanceId){
+        var sms = ArgumentCaptor.forClass(SmsMessage.class);
+        verify(smsOutbox, atLeastOnce()).enqueue(sms.capture());
+
+        var text = sms.getAllValues().stream()
+                .filter(message -> processInstanceId.equals(message.getReference()))
+                .reduce((first, second) -> second)
+                .orElseThrow()
+                .getText();
+        return Integer.valueOf(text.replaceAll("\\D", ""));
+    }
+
     private Map<String, Object> prepareVariables(Client client){
 
         var variableMap = new HashMap<String, Object>();
         variableMap.put("client", client);
-        variableMap.put("correlationId", "testCorrelationId");
 
         return variableMap;
     }
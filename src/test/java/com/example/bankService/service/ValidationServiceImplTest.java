@@ -0,0 +1,91 @@
+package com.example.bankService.service;
+
+import com.example.bankService.model.Client;
+import com.example.bankService.model.Passport;
+import com.example.bankService.service.screening.ScreeningIndexRegistry;
+import com.example.bankService.service.screening.ScreeningProperties;
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static com.example.bankService.util.Constants.RENDY;
+import static com.example.bankService.util.Constants.RIA;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+@DisplayName("Test for ValidationServiceImpl class")
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class ValidationServiceImplTest {
+
+    ValidationServiceImpl validationService;
+
+    @BeforeEach
+    public void setUp(){
+        validationService = new ValidationServiceImpl(new ScreeningIndexRegistry(new ScreeningProperties()));
+    }
+
+    @Test
+    void validateAll_shouldPassClientWhoIsNotListedAndHasValidPassport(){
+        var result = validationService.validateAll(RIA);
+
+        assertAll(
+                () -> assertThat(result.isCriminal()).isFalse(),
+                () -> assertThat(result.isInBlackList()).isFalse(),
+                () -> assertThat(result.isValidPassport()).isTrue(),
+                () -> assertThat(result.isValidUser()).isTrue()
+        );
+    }
+
+    @Test
+    void validateAll_shouldMatchSeparateChecks_whenClientIsListed(){
+        var result = validationService.validateAll(RENDY);
+
+        assertAll(
+                () -> assertThat(result.isCriminal()).isEqualTo(validationService.isClientWantedByPolice(RENDY)).isTrue(),
+                () -> assertThat(result.isInBlackList()).isEqualTo(validationService.isClientInBlackList(RENDY)).isTrue(),
+                () -> assertThat(result.isValidPassport()).isEqualTo(validationService.isValidPassport(RENDY)),
+                () -> assertThat(result.isValidUser()).isFalse()
+        );
+    }
+
+    @Test
+    void validateAll_shouldFail_whenPassportIsExpired(){
+        var client = Client.builder()
+                .name("Ria")
+                .passport(Passport.builder()
+                        .identicalNumber("KH000")
+                        .validFrom(LocalDate.parse("2001-01-01"))
+                        .validTo(LocalDate.parse("2011-01-01"))
+                        .build())
+                .build();
+
+        var result = validationService.validateAll(client);
+
+        assertThat(result.isValidPassport()).isFalse();
+        assertThat(result.isCriminal()).isFalse();
+        assertThat(result.isValidUser()).isFalse();
+    }
+
+    @Test
+    void validateListed_shouldScreenWithoutThePassport_whenPassportIsIncomplete(){
+        var client = Client.builder()
+                .name(RENDY.getName())
+                .surname(RENDY.getSurname())
+                .birthDate(RENDY.getBirthDate())
+                .passport(Passport.builder()
+                        .identicalNumber(RENDY.getPassport().getIdenticalNumber())
+                        .build())
+                .build();
+
+        var result = validationService.validateListed(client);
+
+        assertAll(
+                () -> assertThat(result.isCriminal()).isTrue(),
+                () -> assertThat(result.isInBlackList()).isTrue()
+        );
+    }
+}
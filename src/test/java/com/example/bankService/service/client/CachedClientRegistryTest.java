@@ -0,0 +1,72 @@
+package com.example.bankService.service.client;
+
+import com.example.bankService.model.Passport;
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static com.example.bankService.util.Constants.RIA;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("Test for CachedClientRegistry class")
+@ExtendWith(MockitoExtension.class)
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class CachedClientRegistryTest {
+
+    @Mock
+    ClientRegistryRepository repository;
+
+    CachedClientRegistry clientRegistry;
+
+    @BeforeEach
+    public void setUp(){
+        clientRegistry = new CachedClientRegistry(repository, new ClientRegistryProperties());
+    }
+
+    @Test
+    void isExistingClient_shouldProbeTableOnceAndThenHitCache(){
+        when(repository.exists(ClientIdentity.of(RIA.getPassport()))).thenReturn(true);
+
+        assertThat(clientRegistry.isExistingClient(RIA.getPassport())).isTrue();
+        assertThat(clientRegistry.isExistingClient(RIA.getPassport())).isTrue();
+
+        verify(repository, times(1)).exists(any());
+        assertThat(clientRegistry.cache().stats().hitCount()).isEqualTo(1);
+        assertThat(clientRegistry.cache().stats().missCount()).isEqualTo(1);
+    }
+
+    @Test
+    void register_shouldMakeClientKnownWithoutTableProbe(){
+        when(repository.insert(any())).thenReturn(true);
+
+        clientRegistry.register(RIA.getPassport());
+
+        assertThat(clientRegistry.isExistingClient(RIA.getPassport())).isTrue();
+        verify(repository, never()).exists(any());
+    }
+
+    @Test
+    void isExistingClient_shouldNotProbeTable_whenPassportHasNoBirthDate(){
+        var passport = Passport.builder()
+                .identicalNumber(RIA.getPassport().getIdenticalNumber())
+                .name(RIA.getPassport().getName())
+                .surname(RIA.getPassport().getSurname())
+                .build();
+
+        clientRegistry.register(passport);
+
+        assertThat(clientRegistry.isExistingClient(passport)).isFalse();
+        verify(repository, never()).exists(any());
+        verify(repository, never()).insert(any());
+    }
+}
@@ -0,0 +1,111 @@
+package com.example.bankService.service.client;
+
+import com.example.bankService.model.Wallet;
+import com.example.bankService.service.serialization.ModelVariables;
+import com.example.bankService.service.serialization.SerializationProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import org.camunda.bpm.engine.delegate.DelegateExecution;
+import org.camunda.bpm.engine.impl.context.Context;
+import org.camunda.bpm.engine.impl.interceptor.CommandContext;
+import org.camunda.bpm.engine.impl.interceptor.CommandContextListener;
+import org.camunda.bpm.engine.variable.Variables;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.math.BigDecimal;
+
+import static com.example.bankService.util.Constants.RIA;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+@DisplayName("Test for ClientAccessor class")
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class ClientAccessorTest {
+
+    ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    ClientAccessor clientAccessor;
+
+    DelegateExecution execution;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        clientAccessor = new ClientAccessor(objectMapper, new ModelVariables(new SerializationProperties()));
+
+        var serializedClient = Variables.serializedObjectValue(objectMapper.writeValueAsString(RIA))
+                .serializationDataFormat(Variables.SerializationDataFormats.JSON)
+                .objectTypeName(RIA.getClass().getName())
+                .create();
+
+        execution = mock(DelegateExecution.class);
+        lenient().when(execution.getProcessInstanceId()).thenReturn("processInstanceId");
+        lenient().when(execution.getVariableTyped("client", false)).thenReturn(serializedClient);
+    }
+
+    @AfterEach
+    public void tearDown(){
+        if (Context.getCommandContext() != null) {
+            Context.removeCommandContext();
+        }
+    }
+
+    @Test
+    void of_shouldReadSingleFieldsFromSerializedJson(){
+        var client = clientAccessor.of(execution);
+
+        assertAll(
+                () -> assertThat(client.isPresent()).isTrue(),
+                () -> assertThat(client.getPhoneNumber()).isEqualTo(RIA.getPhoneNumber()),
+                () -> assertThat(client.getMoneyCount()).isEqualByComparingTo(RIA.getWallet().getMoneyCount()),
+                () -> assertThat(client.getPassport()).isEqualTo(RIA.getPassport()),
+                () -> assertThat(client.getClient()).isEqualTo(RIA)
+        );
+    }
+
+    @Test
+    void of_shouldShareViewWithinCommandContextAndDropItOnClose(){
+        var commandContext = mock(CommandContext.class);
+        Context.setCommandContext(commandContext);
+
+        var first = clientAccessor.of(execution);
+        var second = clientAccessor.of(execution);
+
+        var listener = ArgumentCaptor.forClass(CommandContextListener.class);
+        verify(commandContext).registerCommandContextListener(listener.capture());
+        assertThat(second).isSameAs(first);
+
+        listener.getValue().onCommandContextClose(commandContext);
+
+        assertThat(clientAccessor.cachedContexts()).isZero();
+    }
+
+    @Test
+    void save_shouldRefreshCachedView(){
+        Context.setCommandContext(mock(CommandContext.class));
+        var client = clientAccessor.of(execution).getClient()
+                .setWallet(new Wallet(BigDecimal.ONE));
+
+        clientAccessor.save(execution, client);
+
+        assertThat(clientAccessor.of(execution).getMoneyCount()).isEqualByComparingTo(BigDecimal.ONE);
+    }
+
+    @Test
+    void getName_shouldFailWhenClientIsMissing(){
+        var client = clientAccessor.of(mock(DelegateExecution.class));
+
+        assertAll(
+                () -> assertThat(client.isPresent()).isFalse(),
+                () -> assertThrows(IllegalStateException.class, client::getName)
+        );
+    }
+}
@@ -0,0 +1,146 @@
+package com.example.bankService.service.contract;
+
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import org.camunda.bpm.engine.delegate.DelegateExecution;
+import org.camunda.bpm.engine.delegate.VariableScope;
+import org.camunda.bpm.engine.variable.Variables;
+import org.camunda.bpm.engine.variable.value.TypedValue;
+import org.camunda.bpm.model.bpmn.instance.CallActivity;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("Test for VariableContractMapping class")
+@ExtendWith(MockitoExtension.class)
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class VariableContractMappingTest {
+
+    private static final String ACTIVITY = "ActivityRoadToHomeId";
+    private static final String CLIENT_JSON = "{\"name\":\"Ria\",\"wallet\":{\"moneyCount\":100.2}}";
+
+    @Mock
+    DelegateExecution superExecution;
+
+    @Mock
+    VariableScope subInstance;
+
+    @Mock
+    CallActivity callActivity;
+
+    VariableContractProperties properties;
+
+    VariableCopyReport report;
+
+    VariableContractMapping mapping;
+
+    @BeforeEach
+    public void setUp(){
+        var contract = new VariableContractProperties.Contract();
+        contract.setIn(List.of("client", "ticket"));
+        contract.setOut(List.of("client", "transport"));
+        properties = new VariableContractProperties();
+        properties.getContracts().put("GoingHome", contract);
+        report = new VariableCopyReport(properties);
+        mapping = new VariableContractMapping(properties, report);
+
+        when(superExecution.getBpmnModelElementInstance()).thenReturn(callActivity);
+        when(superExecution.getCurrentActivityId()).thenReturn(ACTIVITY);
+    }
+
+    @Test
+    void mapInputVariables_shouldCopyContractVariablesInSerializedForm(){
+        properties.setReportAll(true);
+        when(callActivity.getCalledElement()).thenReturn("GoingHome");
+        var client = client(CLIENT_JSON);
+        var contracts = Variables.serializedObjectValue("[\"a\",\"b\",\"c\",\"d\"]").serializationDataFormat("application/json").create();
+        when(superExecution.getVariableNames()).thenReturn(Set.of("client", "bankDeposits"));
+        when(superExecution.getVariableTyped("client", false)).thenReturn(client);
+        when(superExecution.getVariableTyped("bankDeposits", false)).thenReturn(contracts);
+        when(superExecution.getVariableTyped("ticket", false)).thenReturn(null);
+
+        var subVariables = Variables.createVariables();
+        mapping.mapInputVariables(superExecution, subVariables);
+
+        assertAll(
+                () -> assertThat(subVariables.keySet()).containsExactly("client"),
+                () -> assertThat((Object) subVariables.getValueTyped("client")).isSameAs(client),
+                () -> assertThat(report.copied(ACTIVITY)).isEqualTo(CLIENT_JSON.length()),
+                () -> assertThat(report.all(ACTIVITY)).isEqualTo(CLIENT_JSON.length() + 17)
+        );
+    }
+
+    @Test
+    void mapInputVariables_shouldNotLoadOtherVariablesByDefault(){
+        when(callActivity.getCalledElement()).thenReturn("GoingHome");
+        var client = client(CLIENT_JSON);
+        when(superExecution.getVariableTyped("client", false)).thenReturn(client);
+        when(superExecution.getVariableTyped("ticket", false)).thenReturn(null);
+
+        var subVariables = Variables.createVariables();
+        mapping.mapInputVariables(superExecution, subVariables);
+
+        assertAll(
+                () -> assertThat(subVariables.keySet()).containsExactly("client"),
+                () -> verify(superExecution, never()).getVariableNames(),
+                () -> verify(superExecution, never()).getVariableTyped("bankDeposits", false),
+                () -> assertThat(report.copied(ACTIVITY)).isEqualTo(CLIENT_JSON.length()),
+                () -> assertThat(report.all(ACTIVITY)).isZero()
+        );
+    }
+
+    @Test
+    void mapOutputVariables_shouldOnlyWriteBackChangedVariables(){
+        properties.setReportAll(true);
+        when(callActivity.getCalledElement()).thenReturn("GoingHome");
+        when(subInstance.getVariableNames()).thenReturn(Set.of("client", "transport"));
+        when(subInstance.getVariableTyped("client", false)).thenReturn(client(CLIENT_JSON));
+        when(superExecution.getVariableTyped("client", false)).thenReturn(client(CLIENT_JSON));
+        var transport = Variables.stringValue("rentCar");
+        when(subInstance.getVariableTyped("transport", false)).thenReturn(transport);
+
+        mapping.mapOutputVariables(superExecution, subInstance);
+
+        assertAll(
+                () -> verify(superExecution, never()).setVariable("client", (Object) client(CLIENT_JSON)),
+                () -> verify(superExecution).setVariable("transport", (Object) transport),
+                () -> assertThat(report.copied(ACTIVITY)).isEqualTo("rentCar".length()),
+                () -> assertThat(report.all(ACTIVITY)).isEqualTo(CLIENT_JSON.length() + "rentCar".length())
+        );
+    }
+
+    @Test
+    void mapOutputVariables_shouldCopyAllVariablesWithoutContract(){
+        when(callActivity.getCalledElement()).thenReturn("CreditObtaining");
+        var changed = client(CLIENT_JSON.replace("100.2", "90.2"));
+        when(subInstance.getVariableNames()).thenReturn(Set.of("client"));
+        when(subInstance.getVariableTyped("client", false)).thenReturn(changed);
+        when(superExecution.getVariableTyped("client", false)).thenReturn(client(CLIENT_JSON));
+
+        mapping.mapOutputVariables(superExecution, subInstance);
+
+        assertAll(
+                () -> verify(superExecution).setVariable("client", (Object) changed),
+                () -> assertThat(report.copied(ACTIVITY)).isEqualTo(report.all(ACTIVITY))
+        );
+    }
+
+    private static TypedValue client(String json) {
+        return Variables.serializedObjectValue(json)
+                .serializationDataFormat("application/json")
+                .objectTypeName("com.example.bankService.model.Client")
+                .create();
+    }
+}
@@ -0,0 +1,74 @@
+package com.example.bankService.service.correlation;
+
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import org.camunda.bpm.engine.RuntimeService;
+import org.camunda.bpm.engine.delegate.DelegateExecution;
+import org.camunda.bpm.engine.runtime.MessageCorrelationBuilder;
+import org.camunda.bpm.engine.variable.Variables;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.RETURNS_SELF;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("Test for ProcessCorrelator class")
+@ExtendWith(MockitoExtension.class)
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class ProcessCorrelatorTest {
+
+    private static final String MESSAGE = "message_success_sms_verification";
+
+    @Mock
+    RuntimeService runtimeService;
+
+    MessageCorrelationBuilder builder;
+
+    @Mock
+    DelegateExecution caller;
+
+    ProcessCorrelator processCorrelator;
+
+    @BeforeEach
+    public void setUp(){
+        builder = mock(MessageCorrelationBuilder.class, RETURNS_SELF);
+        when(runtimeService.createMessageCorrelation(MESSAGE)).thenReturn(builder);
+        processCorrelator = new ProcessCorrelator(runtimeService);
+    }
+
+    @Test
+    void correlate_shouldUseProcessInstanceIdWhenKnown(){
+        processCorrelator.correlate(MESSAGE, "businessKey", "waitingId");
+
+        verify(builder).processInstanceId("waitingId");
+        verify(builder, never()).processInstanceBusinessKey(anyString());
+    }
+
+    @Test
+    void correlate_shouldFallBackToBusinessKeyWithoutProcessInstanceId(){
+        processCorrelator.correlate(MESSAGE, "businessKey", null);
+
+        verify(builder).processInstanceBusinessKey("businessKey");
+        verify(builder, never()).processInstanceId(anyString());
+    }
+
+    @Test
+    void startByMessage_shouldHandOverReplyTo_whenCallerHasNoBusinessKey(){
+        when(caller.getProcessInstanceId()).thenReturn("waitingId");
+
+        processCorrelator.startByMessage(MESSAGE, caller, Variables.createVariables());
+
+        verify(builder).setVariables(Variables.createVariables().putValue(ProcessCorrelator.REPLY_TO, "waitingId"));
+        verify(builder, never()).processInstanceBusinessKey(any());
+        verify(builder).startMessageOnly();
+    }
+}
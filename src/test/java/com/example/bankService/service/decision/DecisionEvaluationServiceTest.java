@@ -0,0 +1,45 @@
+package com.example.bankService.service.decision;
+
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Test for DecisionEvaluationService class")
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class DecisionEvaluationServiceTest {
+
+    DecisionEvaluationService service;
+
+    @BeforeEach
+    public void setUp(){
+        service = new DecisionEvaluationService();
+    }
+
+    @ParameterizedTest
+    @CsvSource({"0, walking", "10, walking", "10.1, cityBus", "20, cityBus", "30, metro", "40, taxi", "41, rentCar"})
+    void chooseTransport_shouldFollowTheDecisionTable(String moneyCount, String transport){
+        assertThat(service.chooseTransport(new BigDecimal(moneyCount))).isEqualTo(transport);
+    }
+
+    @Test
+    void chooseTransport_shouldEvaluateTheParsedTableEveryTime(){
+        service.chooseTransport(new BigDecimal("25"));
+        service.chooseTransport(new BigDecimal("25.00"));
+        service.chooseTransport(new BigDecimal("25.01"));
+
+        assertThat(service.evaluations()).isEqualTo(3);
+    }
+
+    @Test
+    void chooseTransport_shouldReturnNullWithoutMoneyCount(){
+        assertThat(service.chooseTransport(null)).isNull();
+    }
+}
@@ -0,0 +1,88 @@
+package com.example.bankService.service.decision;
+
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import org.camunda.bpm.engine.impl.variable.serializer.ValueFields;
+import org.camunda.bpm.engine.variable.Variables;
+import org.camunda.bpm.engine.variable.impl.value.UntypedValueImpl;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("Test for DecisionFlags class")
+@ExtendWith(MockitoExtension.class)
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class DecisionFlagsTest {
+
+    @Mock
+    ValueFields valueFields;
+
+    final DecisionFlagsSerializer serializer = new DecisionFlagsSerializer();
+
+    @Test
+    void with_shouldKeepEveryFlagInOneLong(){
+        var flags = DecisionFlags.NONE
+                .with(DecisionFlag.EXISTING_USER, true)
+                .with(DecisionFlag.CRIMINAL, false)
+                .with(DecisionFlag.VALID_USER, true);
+
+        assertAll(
+                () -> assertThat(flags.isExistingUser()).isTrue(),
+                () -> assertThat(flags.isCriminal()).isFalse(),
+                () -> assertThat(flags.isValidUser()).isTrue(),
+                () -> assertThat(flags.isSet(DecisionFlag.SMS_CODE_VALID)).isFalse(),
+                () -> assertThat(flags.bits()).isEqualTo(0b0110L | 0b0111L << 32)
+        );
+    }
+
+    @Test
+    void with_shouldOverwriteAFlag(){
+        var flags = DecisionFlags.NONE
+                .with(DecisionFlag.CRIMINAL, true)
+                .with(DecisionFlag.CRIMINAL, false);
+
+        assertThat(flags.isCriminal()).isFalse();
+    }
+
+    @Test
+    void is_shouldFailForAFlagThatHasNotBeenWritten(){
+        var flags = DecisionFlags.NONE.with(DecisionFlag.EXISTING_USER, false);
+
+        assertThatThrownBy(flags::isCriminal)
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("CRIMINAL");
+    }
+
+    @Test
+    void serializer_shouldStoreTheFlagsInTheLongColumn(){
+        var flags = DecisionFlags.NONE.with(DecisionFlag.CRIMINAL, true).with(DecisionFlag.VALID_USER, false);
+        var bits = ArgumentCaptor.forClass(Long.class);
+
+        serializer.writeValue(new DecisionFlagsValue(flags, false), valueFields);
+        verify(valueFields).setLongValue(bits.capture());
+        when(valueFields.getLongValue()).thenReturn(bits.getValue());
+
+        assertThat(serializer.readValue(valueFields, true, false).getValue()).isEqualTo(flags);
+    }
+
+    @Test
+    void serializer_shouldOnlyHandleDecisionFlags(){
+        var flags = DecisionFlags.NONE.with(DecisionFlag.SMS_CODE_VALID, true);
+
+        assertAll(
+                () -> assertThat(serializer.canHandle(new UntypedValueImpl(flags))).isTrue(),
+                () -> assertThat(serializer.canHandle(new DecisionFlagsValue(flags, true))).isTrue(),
+                () -> assertThat(serializer.canHandle(Variables.longValue(flags.bits()))).isFalse(),
+                () -> assertThat(serializer.canHandle(Variables.booleanValue(true))).isFalse()
+        );
+    }
+}
@@ -0,0 +1,82 @@
+package com.example.bankService.service.deposit.bank.delegate;
+
+import com.example.bankService.model.DepositContract;
+import com.example.bankService.service.client.ClientAccessor;
+import com.example.bankService.service.client.ClientView;
+import com.example.bankService.service.deposit.catalog.DepositCatalog;
+import com.example.bankService.service.deposit.delegate.bank.DocumentPreparationDelegate;
+import com.example.bankService.service.serialization.ModelVariables;
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import org.camunda.bpm.engine.delegate.DelegateExecution;
+import org.camunda.bpm.extension.mockito.CamundaMockito;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static com.example.bankService.util.Constants.RIA;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mockito.AdditionalAnswers.returnsSecondArg;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+@DisplayName("Test for DocumentPreparationDelegate class")
+@ExtendWith(MockitoExtension.class)
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class DocumentPreparationDelegateTest {
+
+    @InjectMocks
+    DocumentPreparationDelegate delegate;
+
+    @Spy
+    DepositCatalog depositCatalog = new DepositCatalog();
+
+    @Mock
+    ModelVariables modelVariables;
+
+    @Mock
+    ClientAccessor clientAccessor;
+
+    @Mock
+    ClientView clientView;
+
+    @BeforeEach
+    public void setUp(){
+        when(modelVariables.typed(anyString(), any())).then(returnsSecondArg());
+        when(clientAccessor.of(any())).thenReturn(clientView);
+        when(clientView.getPassport()).thenReturn(RIA.getPassport());
+        when(clientView.getPhoneNumber()).thenReturn(RIA.getPhoneNumber());
+    }
+
+    @Test
+    public void execute_shouldPrepareOwnContractForEveryInstance() throws Exception {
+        var first = executionChoosing("Early-Spring");
+        var second = executionChoosing("Hot-Summer");
+
+        delegate.execute(first);
+        delegate.execute(second);
+
+        var firstContract = (DepositContract) first.getVariable("preparedDepositContract");
+        var secondContract = (DepositContract) second.getVariable("preparedDepositContract");
+        assertAll(
+                () -> assertThat(firstContract).isNotSameAs(secondContract),
+                () -> assertThat(firstContract.getId()).isNotEqualTo(secondContract.getId()),
+                () -> assertThat(firstContract.getName()).isEqualTo("Early-Spring"),
+                () -> assertThat(secondContract.getName()).isEqualTo("Hot-Summer"),
+                () -> assertThat(firstContract.getClientName()).isEqualTo(RIA.getPassport().getName())
+        );
+    }
+
+    private DelegateExecution executionChoosing(String depositName){
+        return CamundaMockito.delegateExecutionFake()
+                .withVariable("depositName", depositName)
+                .withVariable("depositCatalogVersion", depositCatalog.current().version());
+    }
+}
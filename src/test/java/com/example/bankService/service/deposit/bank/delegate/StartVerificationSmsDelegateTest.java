@@ -1,18 +1,19 @@
 package com.example.bankService.service.deposit.bank.delegate;
 
-import com.example.bankService.model.Client;
+import com.example.bankService.service.client.ClientAccessor;
+import com.example.bankService.service.correlation.ProcessCorrelator;
 import com.example.bankService.service.deposit.delegate.bank.StartVerificationSmsDelegate;
 import com.example.bankService.util.AbstractTestBase;
 import lombok.AccessLevel;
 
 import lombok.experimental.FieldDefaults;
-import org.camunda.bpm.engine.RuntimeService;
 import org.camunda.bpm.engine.delegate.DelegateExecution;
-import org.camunda.bpm.engine.runtime.MessageCorrelationBuilder;
+import org.camunda.bpm.engine.variable.VariableMap;
+import org.camunda.bpm.engine.variable.Variables;
 import org.camunda.bpm.extension.mockito.CamundaMockito;
-import org.junit.Test;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Captor;
@@ -22,6 +23,9 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.same;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @DisplayName("Test for StartVerificationSmsDelegate class")
@@ -33,22 +37,13 @@ public class StartVerificationSmsDelegateTest extends AbstractTestBase {
     StartVerificationSmsDelegate delegate;
 
     @Mock
-    RuntimeService runtimeService;
+    ProcessCorrelator processCorrelator;
 
     @Mock
-    MessageCorrelationBuilder builder;
+    ClientAccessor clientAccessor;
 
     @Captor
-    ArgumentCaptor<String> messageNameCaptor;
-
-    @Captor
-    ArgumentCaptor<String> businessKeyCaptor;
-
-    @Captor
-    ArgumentCaptor<Client> clientCaptor;
-
-    @Captor
-    ArgumentCaptor<String> variableNameCaptor;
+    ArgumentCaptor<VariableMap> variablesCaptor;
 
     DelegateExecution execution;
 
@@ -59,21 +54,15 @@ public class StartVerificationSmsDelegateTest extends AbstractTestBase {
 
     @Test
     public  void  execute_shouldVerifyThatSendArgumentsAreCorrect() throws Exception {
-        when(runtimeService.createMessageCorrelation(messageNameCaptor.capture())).thenReturn(builder);
-        when(builder.processInstanceBusinessKey(businessKeyCaptor.capture())).thenReturn(builder);
-        when(builder.setVariable(variableNameCaptor.capture(), clientCaptor.capture())).thenReturn(builder);
-
-        execution.setProcessBusinessKey(TEST_BUSINESS_KEY);
-        execution.setVariable("client", CLIENT_MONEY_10);
+        var client = Variables.objectValue(CLIENT_MONEY_10).create();
+        when(clientAccessor.serialized(execution)).thenReturn(client);
 
         delegate.execute(execution);
 
-
+        verify(processCorrelator).startByMessage(eq("message_start_sms_verification"), same(execution), variablesCaptor.capture());
         assertAll(
-                () -> assertThat(messageNameCaptor.getValue()).isEqualTo("message_start_sms_verification"),
-                () -> assertThat(businessKeyCaptor.getValue()).isEqualTo(TEST_BUSINESS_KEY),
-                () -> assertThat(variableNameCaptor.getValue()).isEqualTo("client"),
-                () -> assertThat(clientCaptor.getValue()).isEqualTo(CLIENT_MONEY_10)
+                () -> assertThat(variablesCaptor.getValue()).containsOnlyKeys("client"),
+                () -> assertThat(variablesCaptor.getValue().getValueTyped("client").getValue()).isEqualTo(CLIENT_MONEY_10)
         );
 
     }
@@ -0,0 +1,74 @@
+package com.example.bankService.service.deposit.catalog;
+
+import com.example.bankService.model.Deposit;
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static com.example.bankService.util.Constants.BANK_DEPOSITS;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Test for DepositCatalog class")
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class DepositCatalogTest {
+
+    DepositCatalog depositCatalog;
+
+    @BeforeEach
+    public void setUp(){
+        depositCatalog = new DepositCatalog();
+    }
+
+    @Test
+    void findByName_shouldResolveDepositIgnoringCase(){
+        var catalog = depositCatalog.current();
+
+        assertThat(catalog.version()).isEqualTo(1);
+        assertThat(catalog.size()).isEqualTo(BANK_DEPOSITS.size());
+        assertThat(catalog.findByName("EARLY-SPRING")).get()
+                .extracting(Deposit::getName)
+                .isEqualTo("Early-Spring");
+        assertThat(catalog.findByName("Cold-Autumn")).isEmpty();
+    }
+
+    @Test
+    void publish_shouldKeepPreviousVersionsResolvable(){
+        var newDeposit = Deposit.builder()
+                .name("Cold-Autumn")
+                .minimalSum(new BigDecimal("10.00"))
+                .termInMonth(12)
+                .build();
+
+        var published = depositCatalog.publish(List.of(newDeposit));
+
+        assertThat(published.version()).isEqualTo(2);
+        assertThat(depositCatalog.current()).isSameAs(published);
+        assertThat(depositCatalog.version(1L).findByName("Early-Spring")).isPresent();
+        assertThat(depositCatalog.version(2L).findByName("Early-Spring")).isEmpty();
+        assertThat(depositCatalog.version(null)).isSameAs(published);
+    }
+
+    @Test
+    void version_shouldFallBackToCurrentVersion_whenVersionIsNotKnown(){
+        var published = depositCatalog.publish(BANK_DEPOSITS);
+
+        assertThat(depositCatalog.version(42L)).isSameAs(published);
+    }
+
+    @Test
+    void asJsonValue_shouldSerializeDepositsOnce(){
+        var catalog = depositCatalog.current();
+
+        var first = catalog.asJsonValue();
+        var second = catalog.asJsonValue();
+
+        assertThat(first.getValueSerialized()).contains("Early-Spring", "Hot-Summer", "Hello-Winter");
+        assertThat(second.getValueSerialized()).isSameAs(first.getValueSerialized());
+        assertThat(first.getSerializationDataFormat()).isEqualTo("application/json");
+    }
+}
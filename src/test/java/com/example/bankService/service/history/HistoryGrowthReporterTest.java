@@ -0,0 +1,138 @@
+package com.example.bankService.service.history;
+
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.stubbing.Answer;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import java.sql.ResultSet;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("Test for HistoryGrowthReporter class")
+@ExtendWith(MockitoExtension.class)
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class HistoryGrowthReporterTest {
+
+    private static final Instant NOW = Instant.parse("2026-10-18T08:00:00Z");
+
+    @Mock
+    JdbcTemplate jdbcTemplate;
+
+    @Mock
+    Clock clock;
+
+    HistoryProperties properties;
+
+    HistoryGrowthReporter reporter;
+
+    @BeforeEach
+    public void setUp(){
+        properties = new HistoryProperties();
+        properties.getReport().setTables(List.of("ACT_HI_VARINST", "ACT_HI_ACTINST"));
+        reporter = new HistoryGrowthReporter(jdbcTemplate, properties, clock);
+    }
+
+    @Test
+    void report_shouldComputeRowsPerHourBetweenEstimates(){
+        when(clock.instant()).thenReturn(NOW, NOW.plusSeconds(1800));
+        when(jdbcTemplate.execute(any(ConnectionCallback.class))).thenReturn("H2");
+        doAnswer(rows(Map.of("ACT_HI_VARINST", 1_000L, "ACT_HI_ACTINST", 500L, "ACT_HI_EXT_TASK_LOG", 7L)))
+                .doAnswer(rows(Map.of("ACT_HI_VARINST", 1_600L)))
+                .when(jdbcTemplate).query(startsWith("SELECT TABLE_NAME, ROW_COUNT_ESTIMATE"), any(RowCallbackHandler.class));
+
+        reporter.report();
+        var firstGrowth = reporter.rowsPerHour("ACT_HI_VARINST");
+        reporter.report();
+
+        assertAll(
+                () -> assertThat(firstGrowth).isZero(),
+                () -> assertThat(reporter.rows("ACT_HI_VARINST")).isEqualTo(1_600),
+                () -> assertThat(reporter.rowsPerHour("ACT_HI_VARINST")).isEqualTo(1_200),
+                () -> assertThat(reporter.rows("ACT_HI_ACTINST")).isZero(),
+                () -> assertThat(reporter.rows("ACT_HI_EXT_TASK_LOG")).isNaN(),
+                () -> verify(jdbcTemplate, times(1)).execute(any(ConnectionCallback.class)),
+                () -> verify(jdbcTemplate, never()).queryForObject(anyString(), eq(Long.class))
+        );
+    }
+
+    @Test
+    void report_shouldSkipDatabasesWithoutEstimates(){
+        when(jdbcTemplate.execute(any(ConnectionCallback.class))).thenReturn("Oracle");
+
+        reporter.report();
+
+        assertAll(
+                () -> assertThat(reporter.rows("ACT_HI_VARINST")).isNaN(),
+                () -> verify(jdbcTemplate, never()).query(anyString(), any(RowCallbackHandler.class)),
+                () -> verify(jdbcTemplate, never()).queryForObject(anyString(), eq(Long.class))
+        );
+    }
+
+    @Test
+    void report_shouldComputeRowsPerHourBetweenExactCounts(){
+        properties.getReport().setExact(true);
+        reporter = new HistoryGrowthReporter(jdbcTemplate, properties, clock);
+        when(clock.instant()).thenReturn(NOW, NOW.plusSeconds(1800));
+        when(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM ACT_HI_VARINST", Long.class)).thenReturn(1_000L, 1_600L);
+        when(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM ACT_HI_ACTINST", Long.class)).thenReturn(500L, 500L);
+
+        reporter.report();
+        var firstGrowth = reporter.rowsPerHour("ACT_HI_VARINST");
+        reporter.report();
+
+        assertAll(
+                () -> assertThat(firstGrowth).isZero(),
+                () -> assertThat(reporter.rows("ACT_HI_VARINST")).isEqualTo(1_600),
+                () -> assertThat(reporter.rowsPerHour("ACT_HI_VARINST")).isEqualTo(1_200),
+                () -> assertThat(reporter.rowsPerHour("ACT_HI_ACTINST")).isZero(),
+                () -> assertThat(reporter.rows("ACT_RU_EXECUTION")).isNaN()
+        );
+    }
+
+    @Test
+    void constructor_shouldRefuseTablesOtherThanHistoryOnes(){
+        properties.getReport().setTables(List.of("ACT_RU_EXECUTION"));
+
+        assertThatThrownBy(() -> new HistoryGrowthReporter(jdbcTemplate, properties, clock))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static Answer<Void> rows(Map<String, Long> estimates) {
+        return invocation -> {
+            RowCallbackHandler handler = invocation.getArgument(1);
+            for (var estimate : estimates.entrySet()) {
+                var resultSet = mock(ResultSet.class);
+                when(resultSet.getString(1)).thenReturn(estimate.getKey());
+                lenient().when(resultSet.getLong(2)).thenReturn(estimate.getValue());
+                handler.processRow(resultSet);
+            }
+            return null;
+        };
+    }
+}
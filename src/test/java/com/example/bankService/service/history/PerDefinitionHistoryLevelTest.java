@@ -0,0 +1,79 @@
+package com.example.bankService.service.history;
+
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import org.camunda.bpm.engine.impl.history.event.HistoryEventTypes;
+import org.camunda.bpm.engine.impl.persistence.entity.ExecutionEntity;
+import org.camunda.bpm.engine.impl.persistence.entity.MessageEntity;
+import org.camunda.bpm.engine.impl.persistence.entity.VariableInstanceEntity;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+@DisplayName("Test for PerDefinitionHistoryLevel class")
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class PerDefinitionHistoryLevelTest {
+
+    PerDefinitionHistoryLevel historyLevel = new PerDefinitionHistoryLevel("full",
+            Map.of("SmsVerification", "activity", "Quiet", "none"));
+
+    @Test
+    void isHistoryEventProduced_shouldSkipVariableHistoryOfActivityLevelDefinitions(){
+        var smsVariable = variable("SmsVerification:3:4f1c2b");
+        var depositVariable = variable("DepositOpening:1:a71e90");
+
+        assertAll(
+                () -> assertThat(historyLevel.isHistoryEventProduced(HistoryEventTypes.VARIABLE_INSTANCE_CREATE, smsVariable)).isFalse(),
+                () -> assertThat(historyLevel.isHistoryEventProduced(HistoryEventTypes.VARIABLE_INSTANCE_CREATE, depositVariable)).isTrue(),
+                () -> assertThat(historyLevel.isHistoryEventProduced(HistoryEventTypes.VARIABLE_INSTANCE_UPDATE_DETAIL, depositVariable)).isTrue()
+        );
+    }
+
+    @Test
+    void isHistoryEventProduced_shouldKeepActivitiesOfActivityLevelDefinitions(){
+        var smsExecution = new ExecutionEntity();
+        smsExecution.setProcessDefinitionId("SmsVerification:3:4f1c2b");
+        var quietExecution = new ExecutionEntity();
+        quietExecution.setProcessDefinitionId("Quiet:1:77ab01");
+
+        assertAll(
+                () -> assertThat(historyLevel.isHistoryEventProduced(HistoryEventTypes.ACTIVITY_INSTANCE_START, smsExecution)).isTrue(),
+                () -> assertThat(historyLevel.isHistoryEventProduced(HistoryEventTypes.ACTIVITY_INSTANCE_START, quietExecution)).isFalse()
+        );
+    }
+
+    @Test
+    void isHistoryEventProduced_shouldUseTheProcessDefinitionKeyOfJobs(){
+        var job = new MessageEntity();
+        job.setProcessDefinitionKey("Quiet");
+
+        assertThat(historyLevel.isHistoryEventProduced(HistoryEventTypes.JOB_SUCCESS, job)).isFalse();
+    }
+
+    @Test
+    void isHistoryEventProduced_shouldAnswerForTheMostDetailedLevelWithoutEntity(){
+        assertAll(
+                () -> assertThat(historyLevel.isHistoryEventProduced(HistoryEventTypes.VARIABLE_INSTANCE_UPDATE_DETAIL, null)).isTrue(),
+                () -> assertThat(new PerDefinitionHistoryLevel("activity", Map.of("Deposit", "none"))
+                        .isHistoryEventProduced(HistoryEventTypes.VARIABLE_INSTANCE_CREATE, null)).isFalse()
+        );
+    }
+
+    @Test
+    void constructor_shouldRejectUnknownLevel(){
+        assertThatThrownBy(() -> new PerDefinitionHistoryLevel("full", Map.of("SmsVerification", "verbose")))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("verbose");
+    }
+
+    private static VariableInstanceEntity variable(String processDefinitionId) {
+        var variable = new VariableInstanceEntity();
+        variable.setProcessDefinitionId(processDefinitionId);
+        return variable;
+    }
+}
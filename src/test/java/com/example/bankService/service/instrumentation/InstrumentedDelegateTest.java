@@ -0,0 +1,149 @@
+package com.example.bankService.service.instrumentation;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import org.camunda.bpm.engine.delegate.BpmnError;
+import org.camunda.bpm.engine.delegate.DelegateExecution;
+import org.camunda.bpm.engine.delegate.JavaDelegate;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.Proxy;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+@DisplayName("Test for InstrumentedDelegate class")
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class InstrumentedDelegateTest {
+
+    private static final String DEFINITION_ID = "DepositOpening:3:5a1b2c3d-0000-11ef-9c4e-0242ac120002";
+
+    SimpleMeterRegistry registry;
+    DelegateMetricsProperties properties;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        properties = new DelegateMetricsProperties();
+    }
+
+    @Test
+    void postProcessAfterInitialization_shouldWrapOnlyJavaDelegates() {
+        var instrumentation = new DelegateInstrumentation(metrics());
+        JavaDelegate delegate = execution -> { };
+        var other = new Object();
+
+        assertAll(
+                () -> assertThat(instrumentation.postProcessAfterInitialization(delegate, "verifyEnoughMoney"))
+                        .isInstanceOf(InstrumentedDelegate.class),
+                () -> assertThat(instrumentation.postProcessAfterInitialization(other, "other")).isSameAs(other)
+        );
+    }
+
+    @Test
+    void execute_shouldTimeEveryExecutionPerProcessAndActivity() throws Exception {
+        var delegate = instrument(execution -> { });
+
+        delegate.execute(execution("ActivityVerifyEnoughMoneyId", new HashMap<>()));
+        delegate.execute(execution("ActivityVerifyEnoughMoneyId", new HashMap<>()));
+        delegate.execute(execution("ActivityPrepareDocumentsId", new HashMap<>()));
+
+        assertAll(
+                () -> assertThat(timerCount("ActivityVerifyEnoughMoneyId")).isEqualTo(2),
+                () -> assertThat(timerCount("ActivityPrepareDocumentsId")).isEqualTo(1),
+                () -> assertThat(registry.get("bank.delegate.execution").tag("process", "DepositOpening")
+                        .timers()).hasSize(2)
+        );
+    }
+
+    @Test
+    void execute_shouldCountBpmnErrorsByCodeAndRethrowThem() {
+        var delegate = instrument(execution -> {
+            throw new BpmnError("NOT_ENOUGH_MONEY");
+        });
+
+        assertThatThrownBy(() -> delegate.execute(execution("ActivityVerifyEnoughMoneyId", new HashMap<>())))
+                .isInstanceOf(BpmnError.class);
+
+        assertAll(
+                () -> assertThat(registry.get("bank.delegate.bpmn.errors").tag("code", "NOT_ENOUGH_MONEY")
+                        .counter().count()).isEqualTo(1),
+                () -> assertThat(timerCount("ActivityVerifyEnoughMoneyId")).isEqualTo(1)
+        );
+    }
+
+    @Test
+    void execute_shouldCountTheVariablesReadAndWrittenWhenTracked() throws Exception {
+        properties.setTrackVariables(true);
+        var variables = new HashMap<String, Object>(Map.of("client", "Ria"));
+        var delegate = instrument(execution -> execution.setVariable("transport", execution.getVariable("client")));
+
+        delegate.execute(execution("ActivityVerifyEnoughMoneyId", variables));
+
+        assertAll(
+                () -> assertThat(variables).containsEntry("transport", "Ria"),
+                () -> assertThat(registry.get("bank.delegate.variables").tag("variable", "client")
+                        .tag("access", "read").counter().count()).isEqualTo(1),
+                () -> assertThat(registry.get("bank.delegate.variables").tag("variable", "transport")
+                        .tag("access", "write").counter().count()).isEqualTo(1)
+        );
+    }
+
+    @Test
+    void execute_shouldNotAllocateOnceTheMetersAreRegistered() throws Exception {
+        var threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        var delegate = instrument(execution -> { });
+        var execution = execution("ActivityVerifyEnoughMoneyId", new HashMap<>());
+        for (var i = 0; i < 20_000; i++) {
+            delegate.execute(execution);
+        }
+
+        var before = threads.getCurrentThreadAllocatedBytes();
+        for (var i = 0; i < 10_000; i++) {
+            delegate.execute(execution);
+        }
+        var allocated = threads.getCurrentThreadAllocatedBytes() - before;
+
+        assertThat(allocated).isLessThan(10_000);
+    }
+
+    private InstrumentedDelegate instrument(JavaDelegate target) {
+        return new InstrumentedDelegate("verifyEnoughMoney", target, metrics());
+    }
+
+    private ObjectProvider<DelegateMetrics> metrics() {
+        var beanFactory = new DefaultListableBeanFactory();
+        beanFactory.registerSingleton("delegateMetrics", new DelegateMetrics(registry, properties));
+        return beanFactory.getBeanProvider(DelegateMetrics.class);
+    }
+
+    private long timerCount(String activityId) {
+        return registry.get("bank.delegate.execution")
+                .tag("delegate", "verifyEnoughMoney")
+                .tag("activity", activityId)
+                .timer()
+                .count();
+    }
+
+    //A proxy rather than a mock, a mock records every call and would show up in the allocation test
+    private static DelegateExecution execution(String activityId, Map<String, Object> variables) {
+        return (DelegateExecution) Proxy.newProxyInstance(DelegateExecution.class.getClassLoader(),
+                new Class<?>[]{DelegateExecution.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "getProcessDefinitionId" -> DEFINITION_ID;
+                    case "getCurrentActivityId" -> activityId;
+                    case "getVariable" -> variables.get((String) args[0]);
+                    case "setVariable" -> variables.put((String) args[0], args[1]);
+                    default -> null;
+                });
+    }
+}
@@ -0,0 +1,38 @@
+package com.example.bankService.service.job;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+@DisplayName("Test for JobExecutorPoolSizing class")
+public class JobExecutorPoolSizingTest {
+
+    @Test
+    void of_shouldScaleThreadsWithBlockingAndQueueWithAcquisitionSize(){
+        var pool = new JobExecutorProperties.Pool();
+        pool.setBlockingCoefficient(0.75);
+        pool.setQueuedAcquisitions(3);
+
+        var sizing = JobExecutorPoolSizing.of(pool, 4, 10);
+
+        assertAll(
+                () -> assertThat(sizing.getPoolSize()).isEqualTo(16),
+                () -> assertThat(sizing.getQueueCapacity()).isEqualTo(30)
+        );
+    }
+
+    @Test
+    void of_shouldKeepPoolBoundedForFullyBlockingJobs(){
+        var pool = new JobExecutorProperties.Pool();
+        pool.setBlockingCoefficient(1);
+
+        var sizing = JobExecutorPoolSizing.of(pool, 2, 3);
+
+        assertAll(
+                () -> assertThat(sizing.getPoolSize()).isEqualTo(40),
+                () -> assertThat(sizing.getQueueCapacity()).isEqualTo(6)
+        );
+    }
+}
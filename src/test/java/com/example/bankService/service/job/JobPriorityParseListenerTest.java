@@ -0,0 +1,65 @@
+package com.example.bankService.service.job;
+
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import org.camunda.bpm.engine.impl.bpmn.parser.BpmnParse;
+import org.camunda.bpm.engine.impl.core.variable.mapping.value.ConstantValueProvider;
+import org.camunda.bpm.engine.impl.core.variable.mapping.value.ParameterValueProvider;
+import org.camunda.bpm.engine.impl.persistence.entity.ProcessDefinitionEntity;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Test for JobPriorityParseListener class")
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class JobPriorityParseListenerTest {
+
+    JobPriorityParseListener listener;
+
+    @BeforeEach
+    public void setUp(){
+        listener = new JobPriorityParseListener(Map.of("SmsVerification", 100L));
+    }
+
+    @Test
+    void parseProcess_shouldSetConfiguredPriority(){
+        var processDefinition = processDefinition("SmsVerification");
+
+        listener.parseProcess(null, processDefinition);
+
+        assertThat(priority(processDefinition)).isEqualTo(100L);
+    }
+
+    @Test
+    void parseProcess_shouldKeepPriorityFromModel(){
+        var processDefinition = processDefinition("SmsVerification");
+        processDefinition.setProperty(BpmnParse.PROPERTYNAME_JOB_PRIORITY, new ConstantValueProvider(5L));
+
+        listener.parseProcess(null, processDefinition);
+
+        assertThat(priority(processDefinition)).isEqualTo(5L);
+    }
+
+    @Test
+    void parseProcess_shouldIgnoreUnconfiguredDefinitions(){
+        var processDefinition = processDefinition("GoingHome");
+
+        listener.parseProcess(null, processDefinition);
+
+        assertThat(processDefinition.getProperty(BpmnParse.PROPERTYNAME_JOB_PRIORITY)).isNull();
+    }
+
+    private static ProcessDefinitionEntity processDefinition(String key) {
+        var processDefinition = new ProcessDefinitionEntity();
+        processDefinition.setKey(key);
+        return processDefinition;
+    }
+
+    private static Object priority(ProcessDefinitionEntity processDefinition) {
+        return ((ParameterValueProvider) processDefinition.getProperty(BpmnParse.PROPERTYNAME_JOB_PRIORITY)).getValue(null);
+    }
+}
@@ -0,0 +1,98 @@
+package com.example.bankService.service.outbox;
+
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import org.camunda.bpm.engine.RuntimeService;
+import org.camunda.bpm.engine.runtime.SignalEventReceivedBuilder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Answers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("Test for SignalOutboxRelay class")
+@ExtendWith(MockitoExtension.class)
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class SignalOutboxRelayTest {
+
+    private static final OutboxSignal FIRST = new OutboxSignal(1, "signal", Map.of("ticket", "deposit"), 0);
+    private static final OutboxSignal SECOND = new OutboxSignal(2, "broken", Map.of(), 0);
+
+    @Mock
+    SignalOutboxRepository repository;
+
+    @Mock
+    RuntimeService runtimeService;
+
+    @Mock(answer = Answers.RETURNS_SELF)
+    SignalEventReceivedBuilder signalEvent;
+
+    @Mock
+    PlatformTransactionManager transactionManager;
+
+    SignalOutboxProperties properties;
+
+    SignalOutboxRelay relay;
+
+    @BeforeEach
+    public void setUp(){
+        properties = new SignalOutboxProperties();
+        properties.setBatchSize(2);
+        relay = new SignalOutboxRelay(repository, properties, runtimeService, transactionManager);
+    }
+
+    @Test
+    void relay_shouldSendBatchAndDeleteItsRows(){
+        when(repository.fetch(2, 5)).thenReturn(List.of(FIRST));
+        when(runtimeService.createSignalEvent("signal")).thenReturn(signalEvent);
+
+        var relayed = relay.relay();
+
+        assertAll(
+                () -> assertThat(relayed).isEqualTo(1),
+                () -> verify(signalEvent).setVariables(FIRST.getVariables()),
+                () -> verify(repository).delete(List.of(FIRST)),
+                () -> assertThat(relay.sent()).isEqualTo(1)
+        );
+    }
+
+    @Test
+    void relay_shouldRetryFailedBatchOneByOne(){
+        when(repository.fetch(2, 5)).thenReturn(List.of(FIRST, SECOND));
+        when(runtimeService.createSignalEvent("signal")).thenReturn(signalEvent);
+        when(runtimeService.createSignalEvent("broken")).thenThrow(new IllegalStateException("no subscription"));
+
+        var relayed = relay.relay();
+
+        assertAll(
+                () -> assertThat(relayed).isEqualTo(1),
+                () -> verify(repository).delete(List.of(FIRST)),
+                () -> verify(repository, never()).delete(List.of(SECOND)),
+                () -> verify(repository).failed(SECOND),
+                () -> assertThat(relay.failed()).isEqualTo(1)
+        );
+    }
+
+    @Test
+    void relay_shouldDoNothingWhenOutboxIsEmpty(){
+        when(repository.fetch(anyInt(), anyInt())).thenReturn(List.of());
+
+        assertAll(
+                () -> assertThat(relay.relay()).isZero(),
+                () -> verify(repository, never()).delete(List.of())
+        );
+    }
+}
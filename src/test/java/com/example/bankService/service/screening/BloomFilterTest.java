@@ -0,0 +1,46 @@
+package com.example.bankService.service.screening;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DisplayName("Test for BloomFilter class")
+public class BloomFilterTest {
+
+    @Test
+    void mightContain_shouldNeverReturnFalseNegatives(){
+        var filter = BloomFilter.create(10_000, 0.01);
+        var random = new SplittableRandom(42);
+        var hashes = random.longs(10_000).toArray();
+
+        for (var hash : hashes) {
+            filter.put(hash);
+        }
+
+        for (var hash : hashes) {
+            assertThat(filter.mightContain(hash)).isTrue();
+        }
+    }
+
+    @Test
+    void mightContain_shouldKeepFalsePositivesCloseToConfiguredRate(){
+        var filter = BloomFilter.create(10_000, 0.01);
+        var random = new SplittableRandom(7);
+        random.longs(10_000).forEach(filter::put);
+
+        var falsePositives = random.longs(100_000).filter(filter::mightContain).count();
+
+        assertThat(falsePositives / 100_000d).isLessThan(0.02);
+        assertThat(filter.expectedFalsePositiveRate()).isBetween(0.005, 0.015);
+        assertThat(filter.memoryBytes()).isGreaterThan(0);
+    }
+
+    @Test
+    void create_shouldRejectInvalidProbability(){
+        assertThrows(IllegalArgumentException.class, () -> BloomFilter.create(10, 1.5));
+    }
+}
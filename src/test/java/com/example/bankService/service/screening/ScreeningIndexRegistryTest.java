@@ -0,0 +1,74 @@
+package com.example.bankService.service.screening;
+
+import com.example.bankService.model.Client;
+import com.example.bankService.model.Passport;
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static com.example.bankService.util.Constants.RENDY;
+import static com.example.bankService.util.Constants.RIA;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Test for ScreeningIndexRegistry class")
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class ScreeningIndexRegistryTest {
+
+    ScreeningIndexRegistry registry;
+
+    @BeforeEach
+    public void setUp(){
+        registry = new ScreeningIndexRegistry(new ScreeningProperties());
+    }
+
+    @Test
+    void isListed_shouldFindClientFromInitialWatchlists(){
+        assertThat(registry.isListed(Watchlist.POLICE_WANTED, RENDY)).isTrue();
+        assertThat(registry.isListed(Watchlist.BANK_BLACK_LIST, RENDY)).isTrue();
+        assertThat(registry.isListed(Watchlist.POLICE_WANTED, RIA)).isFalse();
+    }
+
+    @Test
+    void isListed_shouldIgnoreCaseAndSurroundingSpaces(){
+        var client = Client.builder()
+                .name(" rendy ")
+                .surname("MALTS")
+                .birthDate(LocalDate.parse("1996-10-18"))
+                .passport(Passport.builder().identicalNumber("k128965").build())
+                .build();
+
+        assertThat(registry.isListed(Watchlist.POLICE_WANTED, client)).isTrue();
+    }
+
+    @Test
+    void isListed_shouldAnswerNotListedClientsFromBloomFilter(){
+        registry.isListed(Watchlist.POLICE_WANTED, RIA);
+        registry.isListed(Watchlist.POLICE_WANTED, RENDY);
+
+        assertThat(registry.filterRejections(Watchlist.POLICE_WANTED)).isEqualTo(1);
+        assertThat(registry.filterPasses(Watchlist.POLICE_WANTED)).isEqualTo(1);
+    }
+
+    @Test
+    void reloadInBackground_shouldSwapIndexWhenBuilt(){
+        registry.reloadInBackground(Watchlist.BANK_BLACK_LIST, () -> List.of(RIA)).join();
+
+        assertThat(registry.isListed(Watchlist.BANK_BLACK_LIST, RIA)).isTrue();
+        assertThat(registry.isListed(Watchlist.BANK_BLACK_LIST, RENDY)).isFalse();
+    }
+
+    @Test
+    void reload_shouldReplaceWholeWatchlist(){
+        registry.reload(Watchlist.POLICE_WANTED, List.of(RIA));
+
+        assertThat(registry.isListed(Watchlist.POLICE_WANTED, RIA)).isTrue();
+        assertThat(registry.isListed(Watchlist.POLICE_WANTED, RENDY)).isFalse();
+        assertThat(registry.isListed(Watchlist.BANK_BLACK_LIST, RENDY)).isTrue();
+        assertThat(registry.size(Watchlist.POLICE_WANTED)).isEqualTo(1);
+    }
+}
@@ -0,0 +1,111 @@
+package com.example.bankService.service.script;
+
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import org.camunda.bpm.engine.delegate.VariableScope;
+import org.camunda.bpm.engine.impl.scripting.ResourceExecutableScript;
+import org.camunda.bpm.engine.impl.scripting.SourceExecutableScript;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.script.ScriptEngine;
+import javax.script.ScriptEngineManager;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+@DisplayName("Test for CachingScriptFactory class")
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class CachingScriptFactoryTest {
+
+    private static final String LANGUAGE = "javascript";
+    private static final String SOURCE = "print('Hello from Credit obtaining process')";
+
+    ScriptEngine engine = new ScriptEngineManager().getEngineByName("nashorn");
+
+    CompiledScriptCache cache;
+
+    CachingScriptFactory factory;
+
+    @BeforeEach
+    public void setUp(){
+        cache = new CompiledScriptCache(new ScriptProperties());
+        factory = new CachingScriptFactory(cache, Map.of("script/native.js", new NativeScript() {
+            @Override
+            public String resource() {
+                return "script/native.js";
+            }
+
+            @Override
+            public Object execute(VariableScope variableScope) {
+                return "native";
+            }
+        }));
+    }
+
+    @Test
+    void createScriptFromSource_shouldShareCompiledScriptBetweenDefinitions(){
+        var first = (SourceExecutableScript) factory.createScriptFromSource(LANGUAGE, SOURCE);
+        var second = (SourceExecutableScript) factory.createScriptFromSource(LANGUAGE, SOURCE);
+
+        var firstCompiled = first.compile(engine, LANGUAGE, SOURCE);
+        var secondCompiled = second.compile(engine, LANGUAGE, SOURCE);
+
+        assertAll(
+                () -> assertThat(firstCompiled).isNotNull(),
+                () -> assertThat(secondCompiled).isSameAs(firstCompiled),
+                () -> assertThat(cache.misses()).isEqualTo(1),
+                () -> assertThat(cache.hits()).isEqualTo(1)
+        );
+    }
+
+    @Test
+    void createScriptFromSource_shouldShareCompiledScriptBetweenEngineInstances() throws Exception {
+        var otherEngine = new ScriptEngineManager().getEngineByName("nashorn");
+        var script = (SourceExecutableScript) factory.createScriptFromSource(LANGUAGE, "a + 1");
+
+        var firstCompiled = script.compile(engine, LANGUAGE, "a + 1");
+        var secondCompiled = script.compile(otherEngine, LANGUAGE, "a + 1");
+        var bindings = otherEngine.createBindings();
+        bindings.put("a", 41);
+
+        assertAll(
+                () -> assertThat(otherEngine).isNotSameAs(engine),
+                () -> assertThat(secondCompiled).isSameAs(firstCompiled),
+                () -> assertThat(((Number) secondCompiled.eval(bindings)).intValue()).isEqualTo(42),
+                () -> assertThat(cache.hits()).isEqualTo(1)
+        );
+    }
+
+    @Test
+    void createScriptFromResource_shouldCompileChangedSourceAgain(){
+        var script = (ResourceExecutableScript) factory.createScriptFromResource(LANGUAGE, "script/congrats.js");
+
+        var before = script.compile(engine, LANGUAGE, "print('before')");
+        var after = script.compile(engine, LANGUAGE, "print('after')");
+
+        assertAll(
+                () -> assertThat(after).isNotSameAs(before),
+                () -> assertThat(cache.size()).isEqualTo(2)
+        );
+    }
+
+    @Test
+    void createScriptFromResource_shouldUseJavaReplacement(){
+        var script = factory.createScriptFromResource(LANGUAGE, "script/native.js");
+
+        assertAll(
+                () -> assertThat(script).isInstanceOf(NativeExecutableScript.class),
+                () -> assertThat(((NativeExecutableScript) script).execute((VariableScope) null)).isEqualTo("native")
+        );
+    }
+
+    @Test
+    void createScriptFromSource_shouldLeaveScriptsToCamundaWithoutCache(){
+        var script = new CachingScriptFactory(null, Map.of()).createScriptFromSource(LANGUAGE, SOURCE);
+
+        assertThat(script.getClass()).isEqualTo(SourceExecutableScript.class);
+    }
+}
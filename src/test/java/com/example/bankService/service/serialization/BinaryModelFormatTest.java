@@ -0,0 +1,81 @@
+package com.example.bankService.service.serialization;
+
+import com.example.bankService.model.Client;
+import com.example.bankService.model.DepositContract;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.UUID;
+
+import static com.example.bankService.util.Constants.BANK_DEPOSITS;
+import static com.example.bankService.util.Constants.RIA;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DisplayName("Test for BinaryModelFormat class")
+public class BinaryModelFormatTest {
+
+    private static final DepositContract CONTRACT = DepositContract.builder()
+            .id(UUID.randomUUID())
+            .name("Hot summer")
+            .minimalSum(new BigDecimal("1500.50"))
+            .openDate(OffsetDateTime.of(2024, 6, 1, 10, 15, 30, 123_000_000, ZoneOffset.ofHours(3)))
+            .closeDate(OffsetDateTime.of(2025, 6, 1, 10, 15, 30, 0, ZoneOffset.UTC))
+            .clientName("Ria")
+            .clientSurName("Ivanova")
+            .clientPhoneNumber("+380991112233")
+            .build();
+
+    @Test
+    void decode_shouldRestoreEveryModelType(){
+        assertAll(
+                () -> assertThat(BinaryModelFormat.decode(BinaryModelFormat.encode(RIA))).isEqualTo(RIA),
+                () -> assertThat(BinaryModelFormat.decode(BinaryModelFormat.encode(CONTRACT))).isEqualTo(CONTRACT),
+                () -> BANK_DEPOSITS.forEach(deposit ->
+                        assertThat(BinaryModelFormat.decode(BinaryModelFormat.encode(deposit))).isEqualTo(deposit))
+        );
+    }
+
+    @Test
+    void decode_shouldKeepNullFieldsNull(){
+        var client = Client.builder().id("7").build();
+
+        var decoded = (Client) BinaryModelFormat.decode(BinaryModelFormat.encode(client));
+
+        assertAll(
+                () -> assertThat(decoded).isEqualTo(client),
+                () -> assertThat(decoded.getWallet()).isNull(),
+                () -> assertThat(decoded.getPassport()).isNull()
+        );
+    }
+
+    @Test
+    void encode_shouldBeSmallerThanJson() throws Exception {
+        var json = new ObjectMapper().findAndRegisterModules().writeValueAsBytes(RIA);
+
+        assertThat(BinaryModelFormat.encode(RIA).length).isLessThan(json.length / 2);
+    }
+
+    @Test
+    void decode_shouldRejectNewerSchemaVersion(){
+        var bytes = BinaryModelFormat.encode(RIA);
+        bytes[1] = 99;
+
+        assertThrows(IllegalArgumentException.class, () -> BinaryModelFormat.decode(bytes));
+    }
+
+    @Test
+    void supports_shouldOnlyAcceptModelTypes(){
+        assertAll(
+                () -> assertThat(BinaryModelFormat.supports(RIA)).isTrue(),
+                () -> assertThat(BinaryModelFormat.supports(CONTRACT)).isTrue(),
+                () -> assertThat(BinaryModelFormat.supports(BANK_DEPOSITS)).isFalse(),
+                () -> assertThat(BinaryModelFormat.supports(null)).isFalse()
+        );
+    }
+}
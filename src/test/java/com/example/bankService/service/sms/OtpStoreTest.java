@@ -0,0 +1,169 @@
+package com.example.bankService.service.sms;
+
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+@DisplayName("Test for OtpStore class")
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class OtpStoreTest {
+
+    private static final String PROCESS_INSTANCE_ID = "processInstanceId";
+
+    EmbeddedDatabase database;
+
+    OtpRepository repository;
+
+    TransactionTemplate transactionTemplate;
+
+    SmsProperties properties;
+
+    AtomicReference<Instant> now = new AtomicReference<>(Instant.parse("2024-09-01T10:00:00Z"));
+
+    OtpStore store;
+
+    @BeforeEach
+    public void setUp(){
+        database = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .setName("otp-" + UUID.randomUUID())
+                .addScript("db/bank-schema.sql")
+                .build();
+        repository = new OtpRepository(new JdbcTemplate(database));
+        transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(database));
+        properties = new SmsProperties();
+        store = store();
+    }
+
+    @AfterEach
+    public void tearDown() throws Exception {
+        store.shutdown();
+        database.shutdown();
+    }
+
+    @Test
+    void issue_shouldCountSentCodesAndKeepFailures(){
+        store.issue(PROCESS_INSTANCE_ID, "first", 1L);
+        store.attempt(PROCESS_INSTANCE_ID, otp -> false);
+
+        var entry = store.issue(PROCESS_INSTANCE_ID, "second", 2L);
+
+        assertAll(
+                () -> assertThat(entry.getCodeHash()).isEqualTo("second"),
+                () -> assertThat(entry.getSentCount()).isEqualTo(2),
+                () -> assertThat(entry.getFailedCount()).isEqualTo(1),
+                () -> assertThat(store.find(PROCESS_INSTANCE_ID)).contains(entry)
+        );
+    }
+
+    @Test
+    void attempt_shouldDropEntryOnceTheCodeMatches(){
+        store.issue(PROCESS_INSTANCE_ID, "hash", 1L);
+
+        var outcome = store.attempt(PROCESS_INSTANCE_ID, otp -> otp.getCodeHash().equals("hash"));
+
+        assertAll(
+                () -> assertThat(outcome).isEqualTo(OtpStore.Outcome.VALID),
+                () -> assertThat(store.isIssued(PROCESS_INSTANCE_ID)).isFalse()
+        );
+    }
+
+    @Test
+    void attempt_shouldStopAtMaxAttempts(){
+        store.issue(PROCESS_INSTANCE_ID, "hash", 1L);
+
+        var first = store.attempt(PROCESS_INSTANCE_ID, otp -> false);
+        var second = store.attempt(PROCESS_INSTANCE_ID, otp -> false);
+        var third = store.attempt(PROCESS_INSTANCE_ID, otp -> false);
+
+        assertAll(
+                () -> assertThat(first).isEqualTo(OtpStore.Outcome.INVALID),
+                () -> assertThat(second).isEqualTo(OtpStore.Outcome.INVALID),
+                () -> assertThat(third).isEqualTo(OtpStore.Outcome.LIMIT_EXCEEDED),
+                () -> assertThat(store.attempt(PROCESS_INSTANCE_ID, otp -> true)).isEqualTo(OtpStore.Outcome.MISSING)
+        );
+    }
+
+    @Test
+    void attempt_shouldKeepTheCounts_whenStoreIsRestarted() throws Exception {
+        store.issue(PROCESS_INSTANCE_ID, "hash", 1L);
+        store.attempt(PROCESS_INSTANCE_ID, otp -> false);
+        store.shutdown();
+
+        store = store();
+        var resent = store.issue(PROCESS_INSTANCE_ID, "resent", 2L);
+
+        assertAll(
+                () -> assertThat(resent.getSentCount()).isEqualTo(2),
+                () -> assertThat(resent.getFailedCount()).isEqualTo(1),
+                () -> assertThat(store.attempt(PROCESS_INSTANCE_ID, otp -> false)).isEqualTo(OtpStore.Outcome.INVALID),
+                () -> assertThat(store.attempt(PROCESS_INSTANCE_ID, otp -> false)).isEqualTo(OtpStore.Outcome.LIMIT_EXCEEDED)
+        );
+    }
+
+    @Test
+    void attempt_shouldLeaveTheEntry_whenTransactionIsRolledBack(){
+        store.issue(PROCESS_INSTANCE_ID, "hash", 1L);
+
+        assertThatThrownBy(() -> transactionTemplate.executeWithoutResult(status -> {
+            store.attempt(PROCESS_INSTANCE_ID, otp -> true);
+            throw new IllegalStateException("reply correlation failed");
+        })).isInstanceOf(IllegalStateException.class);
+
+        assertAll(
+                () -> assertThat(store.find(PROCESS_INSTANCE_ID)).get().extracting(OtpEntry::getSentCount).isEqualTo(1),
+                () -> assertThat(store.attempt(PROCESS_INSTANCE_ID, otp -> true)).isEqualTo(OtpStore.Outcome.VALID)
+        );
+    }
+
+    @Test
+    void cleanup_shouldDeleteExpiredEntries(){
+        store.issue(PROCESS_INSTANCE_ID, "hash", 1L);
+        now.set(now.get().plus(properties.getOtp().getTtl()).plusSeconds(1));
+
+        assertAll(
+                () -> assertThat(store.isIssued(PROCESS_INSTANCE_ID)).isFalse(),
+                () -> assertThat(store.cleanup()).isEqualTo(1),
+                () -> assertThat(repository.find(PROCESS_INSTANCE_ID)).isEmpty()
+        );
+    }
+
+    private OtpStore store() {
+        var clock = new Clock() {
+            @Override
+            public ZoneId getZone() {
+                return ZoneId.of("UTC");
+            }
+
+            @Override
+            public Clock withZone(ZoneId zone) {
+                return this;
+            }
+
+            @Override
+            public Instant instant() {
+                return now.get();
+            }
+        };
+        return new OtpStore(repository, properties, clock);
+    }
+}
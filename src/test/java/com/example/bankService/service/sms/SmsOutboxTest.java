@@ -0,0 +1,147 @@
+package com.example.bankService.service.sms;
+
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import org.camunda.bpm.engine.impl.cfg.TransactionContext;
+import org.camunda.bpm.engine.impl.cfg.TransactionListener;
+import org.camunda.bpm.engine.impl.cfg.TransactionState;
+import org.camunda.bpm.engine.impl.context.Context;
+import org.camunda.bpm.engine.impl.interceptor.CommandContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("Test for SmsOutbox class")
+@ExtendWith(MockitoExtension.class)
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class SmsOutboxTest {
+
+    private static final SmsMessage MESSAGE = new SmsMessage("+380501234567", "Your verification code: 000042", "processInstanceId");
+
+    @Mock
+    SmsGateway gateway;
+
+    SmsProperties properties;
+
+    SmsOutbox outbox;
+
+    @BeforeEach
+    public void setUp(){
+        properties = new SmsProperties();
+        properties.setBatchSize(2);
+        //long enough for the scheduled flush to stay out of the way, the tests flush themselves
+        properties.setFlushInterval(Duration.ofHours(1));
+        properties.getRetry().setMaxAttempts(2);
+        properties.getRetry().setInitialBackoff(Duration.ofMillis(10));
+        outbox = new SmsOutbox(gateway, properties);
+    }
+
+    @AfterEach
+    public void tearDown() throws Exception {
+        if (Context.getCommandContext() != null) {
+            Context.removeCommandContext();
+        }
+        outbox.shutdown();
+    }
+
+    @Test
+    void enqueue_shouldSendFullBatchesRightAwayAndLeaveTheRestToTheFlush(){
+        for (var i = 0; i < 5; i++) {
+            outbox.enqueue(MESSAGE);
+        }
+
+        verify(gateway, timeout(2_000).times(2)).send(anyList());
+        var flushed = outbox.flush();
+
+        assertAll(
+                () -> assertThat(flushed).isEqualTo(1),
+                () -> verify(gateway, times(3)).send(anyList()),
+                () -> assertThat(outbox.sent()).isEqualTo(5),
+                () -> assertThat(outbox.queueSize()).isZero()
+        );
+    }
+
+    @Test
+    void enqueue_shouldWaitForTheCommit(){
+        var commandContext = mock(CommandContext.class);
+        var transactionContext = mock(TransactionContext.class);
+        when(commandContext.getTransactionContext()).thenReturn(transactionContext);
+        Context.setCommandContext(commandContext);
+
+        outbox.enqueue(MESSAGE);
+
+        var listener = ArgumentCaptor.forClass(TransactionListener.class);
+        verify(transactionContext).addTransactionListener(eq(TransactionState.COMMITTED), listener.capture());
+        assertThat(outbox.queueSize()).isZero();
+
+        listener.getValue().execute(commandContext);
+
+        assertThat(outbox.queueSize()).isEqualTo(1);
+    }
+
+    @Test
+    void flush_shouldRetryFailedBatchWithBackoff() throws Exception {
+        doThrow(new SmsDeliveryException("provider down"))
+                .doNothing()
+                .when(gateway).send(List.of(MESSAGE));
+        outbox.enqueue(MESSAGE);
+
+        outbox.flush();
+        //waits for the scheduled retry
+        outbox.shutdown();
+
+        assertAll(
+                () -> verify(gateway, times(2)).send(List.of(MESSAGE)),
+                () -> assertThat(outbox.retried()).isEqualTo(1),
+                () -> assertThat(outbox.sent()).isEqualTo(1),
+                () -> assertThat(outbox.failed()).isZero()
+        );
+    }
+
+    @Test
+    void flush_shouldGiveUpAfterMaxAttempts() throws Exception {
+        doThrow(new SmsDeliveryException("provider down")).when(gateway).send(anyList());
+        outbox.enqueue(MESSAGE);
+
+        outbox.flush();
+        outbox.shutdown();
+
+        assertAll(
+                () -> verify(gateway, times(2)).send(List.of(MESSAGE)),
+                () -> assertThat(outbox.sent()).isZero(),
+                () -> assertThat(outbox.failed()).isEqualTo(1)
+        );
+    }
+
+    @Test
+    void backoffMillis_shouldGrowExponentiallyUpToTheMaximum(){
+        var retry = new SmsProperties.Retry();
+        retry.setInitialBackoff(Duration.ofMillis(100));
+        retry.setMaxBackoff(Duration.ofMillis(1_000));
+
+        assertAll(
+                () -> assertThat(SmsOutbox.backoffMillis(retry, 1)).isBetween(50L, 100L),
+                () -> assertThat(SmsOutbox.backoffMillis(retry, 3)).isBetween(200L, 400L),
+                () -> assertThat(SmsOutbox.backoffMillis(retry, 10)).isBetween(500L, 1_000L)
+        );
+    }
+}
@@ -0,0 +1,102 @@
+package com.example.bankService.service.sms;
+
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.HashSet;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DisplayName("Test for VerificationCodeService class")
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class VerificationCodeServiceTest {
+
+    private static final Instant NOW = Instant.parse("2024-09-01T10:00:00Z");
+
+    SmsProperties properties;
+
+    VerificationCodeService service;
+
+    @BeforeEach
+    public void setUp(){
+        properties = new SmsProperties();
+        properties.getCode().setTtl(Duration.ofMinutes(5));
+        service = new VerificationCodeService(properties, Clock.fixed(NOW, ZoneOffset.UTC));
+    }
+
+    @Test
+    void issue_shouldReturnCodeOfConfiguredDigitsAndOnlyItsHash(){
+        var code = service.issue("processInstanceId");
+
+        assertAll(
+                () -> assertThat(code.getCode()).matches("\\d{6}"),
+                () -> assertThat(code.getHash()).doesNotContain(code.getCode()),
+                () -> assertThat(code.getExpiresAt()).isEqualTo(NOW.plus(Duration.ofMinutes(5)).toEpochMilli())
+        );
+    }
+
+    @Test
+    void verify_shouldAcceptTheIssuedCodeOnlyForItsScope(){
+        var code = service.issue("processInstanceId");
+
+        assertAll(
+                () -> assertThat(service.verify("processInstanceId", code.getCode(), code.getHash(), code.getExpiresAt())).isTrue(),
+                () -> assertThat(service.verify("otherInstanceId", code.getCode(), code.getHash(), code.getExpiresAt())).isFalse(),
+                () -> assertThat(service.verify("processInstanceId", code.getCode(), code.getHash(), code.getExpiresAt() + 60_000)).isFalse(),
+                () -> assertThat(service.verify("processInstanceId", null, code.getHash(), code.getExpiresAt())).isFalse()
+        );
+    }
+
+    @Test
+    void verify_shouldRefuseExpiredCode(){
+        var code = service.issue("processInstanceId");
+        var later = new VerificationCodeService(properties,
+                Clock.fixed(NOW.plus(Duration.ofMinutes(6)), ZoneOffset.UTC));
+
+        assertThat(later.verify("processInstanceId", code.getCode(), code.getHash(), code.getExpiresAt())).isFalse();
+    }
+
+    @Test
+    void verify_shouldNeedTheSameSecret(){
+        properties.getCode().setSecret("c2VjcmV0LWtleS1mb3ItdmVyaWZpY2F0aW9uLWNvZGVz");
+        var code = new VerificationCodeService(properties).issue("processInstanceId");
+
+        var sameSecret = new VerificationCodeService(properties);
+        var otherNode = new VerificationCodeService(new SmsProperties());
+
+        assertAll(
+                () -> assertThat(sameSecret.verify("processInstanceId", code.getCode(), code.getHash(), code.getExpiresAt())).isTrue(),
+                () -> assertThat(otherNode.verify("processInstanceId", code.getCode(), code.getHash(), code.getExpiresAt())).isFalse()
+        );
+    }
+
+    @Test
+    void format_shouldKeepLeadingZeros(){
+        assertAll(
+                () -> assertThat(service.format(42)).isEqualTo("000042"),
+                () -> assertThat(service.format(123456)).isEqualTo("123456")
+        );
+    }
+
+    @Test
+    void generator_shouldStayInRangeAndSpreadCodes(){
+        var generator = new VerificationCodeGenerator(4);
+        var codes = IntStream.range(0, 20_000).mapToObj(i -> generator.next()).toList();
+
+        assertAll(
+                () -> assertThat(codes).allMatch(code -> code >= 0 && code < 10_000),
+                () -> assertThat(new HashSet<>(codes)).hasSizeGreaterThan(8_000),
+                () -> assertThrows(IllegalArgumentException.class, () -> new VerificationCodeGenerator(10))
+        );
+    }
+}
@@ -0,0 +1,75 @@
+package com.example.bankService.service.start;
+
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import org.camunda.bpm.engine.ProcessEngineException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mockito.Mockito.when;
+
+@DisplayName("Test for AsyncProcessStarter class")
+@ExtendWith(MockitoExtension.class)
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class AsyncProcessStarterTest {
+
+    @Mock
+    ProcessStartService processStartService;
+
+    AsyncProcessStarter starter;
+
+    @BeforeEach
+    public void setUp(){
+        var properties = new ProcessStartProperties();
+        properties.getAsync().setThreads(1);
+        properties.getAsync().setQueueCapacity(1);
+        starter = new AsyncProcessStarter(processStartService, properties, new MockEnvironment());
+    }
+
+    @Test
+    void submit_shouldRejectWhenQueueIsFullAndStartTheAcceptedOnes() throws Exception {
+        var running = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+        when(processStartService.start("k1")).thenAnswer(invocation -> {
+            running.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return "id-k1";
+        });
+        when(processStartService.start("k2")).thenThrow(new ProcessEngineException("no deployment"));
+
+        var first = starter.submit("k1").orElseThrow();
+        running.await(5, TimeUnit.SECONDS);
+        var second = starter.submit("k2").orElseThrow();
+        var third = starter.submit("k3");
+
+        assertAll(
+                () -> assertThat(third).isEmpty(),
+                () -> assertThat(starter.queueSize()).isEqualTo(1),
+                () -> assertThat(starter.find(second.getTrackingId()).orElseThrow().getResult().getStatus())
+                        .isEqualTo(StartResult.Status.QUEUED)
+        );
+
+        release.countDown();
+        starter.shutdown();
+
+        assertAll(
+                () -> assertThat(starter.find(first.getTrackingId()).orElseThrow().getResult().getProcessInstanceId())
+                        .isEqualTo("id-k1"),
+                () -> assertThat(starter.find(second.getTrackingId()).orElseThrow().getResult().getStatus())
+                        .isEqualTo(StartResult.Status.FAILED),
+                () -> assertThat(starter.accepted()).isEqualTo(2),
+                () -> assertThat(starter.rejected()).isEqualTo(1),
+                () -> assertThat(starter.started()).isEqualTo(2)
+        );
+    }
+}
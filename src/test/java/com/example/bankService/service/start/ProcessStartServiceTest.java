@@ -0,0 +1,116 @@
+package com.example.bankService.service.start;
+
+import com.example.bankService.service.serialization.ModelVariables;
+import com.example.bankService.service.serialization.SerializationProperties;
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import org.camunda.bpm.engine.ProcessEngineException;
+import org.camunda.bpm.engine.RuntimeService;
+import org.camunda.bpm.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.camunda.bpm.engine.impl.interceptor.Command;
+import org.camunda.bpm.engine.impl.interceptor.CommandExecutor;
+import org.camunda.bpm.engine.runtime.ProcessInstance;
+import org.camunda.bpm.engine.runtime.ProcessInstantiationBuilder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Answers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("Test for ProcessStartService class")
+@ExtendWith(MockitoExtension.class)
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class ProcessStartServiceTest {
+
+    @Mock
+    RuntimeService runtimeService;
+
+    @Mock(answer = Answers.RETURNS_SELF)
+    ProcessInstantiationBuilder builder;
+
+    @Mock
+    PlatformTransactionManager transactionManager;
+
+    @Mock
+    ProcessEngineConfigurationImpl engineConfiguration;
+
+    @Mock
+    CommandExecutor commandExecutor;
+
+    ProcessStartService processStartService;
+
+    String currentKey;
+
+    @BeforeEach
+    public void setUp(){
+        var properties = new ProcessStartProperties();
+        properties.getBatch().setChunkSize(2);
+        processStartService = new ProcessStartService(runtimeService,
+                new ModelVariables(new SerializationProperties()), properties, transactionManager, engineConfiguration);
+
+        when(engineConfiguration.getCommandExecutorTxRequired()).thenReturn(commandExecutor);
+        when(commandExecutor.execute(any())).thenAnswer(invocation -> invocation.<Command<?>>getArgument(0).execute(null));
+        when(transactionManager.getTransaction(any())).thenAnswer(invocation -> new SimpleTransactionStatus());
+        when(runtimeService.createProcessInstanceByKey(anyString())).thenReturn(builder);
+        when(builder.businessKey(anyString())).thenAnswer(invocation -> {
+            currentKey = invocation.getArgument(0);
+            return builder;
+        });
+        when(builder.execute()).thenAnswer(invocation -> {
+            if (currentKey.equals("broken")) {
+                throw new ProcessEngineException("broken key");
+            }
+            var instance = mock(ProcessInstance.class);
+            when(instance.getId()).thenReturn("id-" + currentKey);
+            return instance;
+        });
+    }
+
+    @Test
+    void startBatch_shouldCommitOneTransactionPerChunk(){
+        var results = startBatch("k1", "k2", "k3", "k4", "k5");
+
+        assertAll(
+                () -> assertThat(results).extracting(StartResult::getBusinessKey).containsExactly("k1", "k2", "k3", "k4", "k5"),
+                () -> assertThat(results).extracting(StartResult::getStatus).containsOnly(StartResult.Status.STARTED),
+                () -> assertThat(results.get(0).getProcessInstanceId()).isEqualTo("id-k1"),
+                () -> verify(transactionManager, times(3)).commit(any()),
+                () -> verify(commandExecutor, times(3)).execute(any())
+        );
+    }
+
+    @Test
+    void startBatch_shouldIsolateFailingKeyAndRejectBlankOne(){
+        var results = startBatch("k1", "broken", " ");
+
+        assertAll(
+                () -> assertThat(results).extracting(StartResult::getStatus).containsExactly(
+                        StartResult.Status.STARTED, StartResult.Status.FAILED, StartResult.Status.REJECTED),
+                () -> assertThat(results.get(1).getError()).isEqualTo("broken key"),
+                () -> verify(transactionManager, times(2)).rollback(any())
+        );
+    }
+
+    private List<StartResult> startBatch(String... businessKeys) {
+        var results = new ArrayList<StartResult>();
+        processStartService.startBatch(Arrays.asList(businessKeys), results::add);
+        return results;
+    }
+}
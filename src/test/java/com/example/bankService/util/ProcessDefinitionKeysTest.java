@@ -0,0 +1,26 @@
+package com.example.bankService.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+@DisplayName("Test for ProcessDefinitionKeys class")
+public class ProcessDefinitionKeysTest {
+
+    @Test
+    void of_shouldTakeTheKeyFromTheDefinitionId(){
+        assertAll(
+                () -> assertThat(ProcessDefinitionKeys.of("DepositOpening:3:5a1b2c3d-0000-11ef-9c4e-0242ac120002"))
+                        .isEqualTo("DepositOpening"),
+                () -> assertThat(ProcessDefinitionKeys.of(null)).isNull()
+        );
+    }
+
+    @Test
+    void of_shouldReturnBareIdOutsideACommand(){
+        assertThat(ProcessDefinitionKeys.of("5a1b2c3d-0000-11ef-9c4e-0242ac120002"))
+                .isEqualTo("5a1b2c3d-0000-11ef-9c4e-0242ac120002");
+    }
+}